@@ -1,6 +1,7 @@
 package tutortrack;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -23,6 +24,9 @@ import tutortrack.model.ReadOnlyUserPrefs;
 import tutortrack.model.UserPrefs;
 import tutortrack.model.util.SampleDataUtil;
 import tutortrack.storage.AddressBookStorage;
+import tutortrack.storage.BackgroundAddressBookSaver;
+import tutortrack.storage.BinaryAddressBookStorage;
+import tutortrack.storage.JournalAddressBookStorage;
 import tutortrack.storage.JsonAddressBookStorage;
 import tutortrack.storage.JsonUserPrefsStorage;
 import tutortrack.storage.Storage;
@@ -45,6 +49,10 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected BackgroundAddressBookSaver addressBookSaver;
+
+    // False if the data file could not be loaded, so that it is not overwritten unless a command changes the data.
+    private boolean isDataFileLoaded;
 
     @Override
     public void init() throws Exception {
@@ -57,22 +65,56 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        boolean isConversionNeeded = isDataFileInOtherFormat(config, addressBookFilePath);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, addressBookFilePath);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(storage, userPrefs, isConversionNeeded);
 
-        logic = new LogicManager(model, storage);
+        addressBookSaver = new BackgroundAddressBookSaver(storage);
+        logic = new LogicManager(model, storage, addressBookSaver);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file at {@code filePath}, in the format given by
+     * {@code config}. A data file in the other format is still read, and is then saved in the configured format.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, Path filePath) {
+        AddressBookStorage snapshotStorage = config.isAddressBookBinaryFormat()
+                ? new BinaryAddressBookStorage(filePath)
+                : new JsonAddressBookStorage(filePath, config.isAddressBookPrettyPrinted());
+        if (!config.isAddressBookJournalEnabled()) {
+            return snapshotStorage;
+        }
+        return new JournalAddressBookStorage(snapshotStorage, JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} exists and is not in the format given by {@code config}.
+     */
+    private boolean isDataFileInOtherFormat(Config config, Path filePath) {
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+        try {
+            return BinaryAddressBookStorage.isBinaryFile(filePath) != config.isAddressBookBinaryFormat();
+        } catch (IOException e) {
+            logger.warning("Failed to read the header of data file " + filePath + ": " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * If {@code isConversionNeeded}, data read from {@code storage} is saved back in full, so that the data file is
+     * converted to the format of {@code storage}.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, boolean isConversionNeeded) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -82,8 +124,11 @@ public class MainApp extends Application {
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
+            } else if (isConversionNeeded) {
+                convertDataFile(storage, addressBookOptional.get());
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            isDataFileLoaded = true;
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
@@ -93,6 +138,21 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Saves {@code addressBook} to {@code storage}'s data file in full, in the format of {@code storage}.
+     * A journal only records changes, so the data file is also compacted to rewrite it.
+     */
+    private void convertDataFile(Storage storage, ReadOnlyAddressBook addressBook) {
+        logger.info("Converting data file " + storage.getAddressBookFilePath() + " to the configured format.");
+        try {
+            storage.saveAddressBook(addressBook);
+            storage.compactAddressBook(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to convert data file " + storage.getAddressBookFilePath() + ": "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -177,6 +237,21 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        addressBookSaver.shutdown();
+        if (addressBookSaver.isLastSaveFailed()) {
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException e) {
+                logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+            }
+        }
+        if (isDataFileLoaded && storage.hasIncrementalChanges()) {
+            try {
+                storage.compactAddressBook(model.getAddressBook());
+            } catch (IOException e) {
+                logger.severe("Failed to compact data file " + StringUtil.getDetails(e));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
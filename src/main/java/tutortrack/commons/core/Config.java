@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean addressBookJournalEnabled = true;
+    private boolean addressBookPrettyPrinted = true;
+    private boolean addressBookBinaryFormat = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,40 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if changes to the address book are appended to a journal beside the data file,
+     * instead of rewriting the whole data file after every command.
+     */
+    public boolean isAddressBookJournalEnabled() {
+        return addressBookJournalEnabled;
+    }
+
+    public void setAddressBookJournalEnabled(boolean addressBookJournalEnabled) {
+        this.addressBookJournalEnabled = addressBookJournalEnabled;
+    }
+
+    /**
+     * Returns true if the address book data file is indented over multiple lines for easier editing by hand.
+     */
+    public boolean isAddressBookPrettyPrinted() {
+        return addressBookPrettyPrinted;
+    }
+
+    public void setAddressBookPrettyPrinted(boolean addressBookPrettyPrinted) {
+        this.addressBookPrettyPrinted = addressBookPrettyPrinted;
+    }
+
+    /**
+     * Returns true if the address book data file is saved in the compact binary format instead of json.
+     */
+    public boolean isAddressBookBinaryFormat() {
+        return addressBookBinaryFormat;
+    }
+
+    public void setAddressBookBinaryFormat(boolean addressBookBinaryFormat) {
+        this.addressBookBinaryFormat = addressBookBinaryFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +84,16 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && addressBookJournalEnabled == otherConfig.addressBookJournalEnabled
+                && addressBookPrettyPrinted == otherConfig.addressBookPrettyPrinted
+                && addressBookBinaryFormat == otherConfig.addressBookBinaryFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, addressBookJournalEnabled, addressBookPrettyPrinted,
+                addressBookBinaryFormat);
     }
 
     @Override
@@ -60,6 +101,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("addressBookJournalEnabled", addressBookJournalEnabled)
+                .add("addressBookPrettyPrinted", addressBookPrettyPrinted)
+                .add("addressBookBinaryFormat", addressBookBinaryFormat)
                 .toString();
     }
 
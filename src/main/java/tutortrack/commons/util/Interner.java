@@ -0,0 +1,43 @@
+package tutortrack.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values can share one object.
+ * <p>
+ * The pool holds its instances weakly, so an instance that is no longer used elsewhere can still be garbage
+ * collected. It is safe to use from several threads at once.
+ *
+ * @param <T> the type of value in the pool, which must be immutable and implement {@code equals} and
+ *     {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> instances = new WeakHashMap<>();
+
+    /**
+     * Returns the instance in the pool that is equal to {@code value}, adding {@code value} to the pool if there
+     * is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = instances.get(value);
+        T instance = reference == null ? null : reference.get();
+        if (instance == null) {
+            instances.put(value, new WeakReference<>(value));
+            return value;
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the number of instances in the pool, which may include instances about to be garbage collected.
+     */
+    public synchronized int size() {
+        return instances.size();
+    }
+}
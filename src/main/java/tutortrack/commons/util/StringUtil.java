@@ -61,8 +61,9 @@ public class StringUtil {
         String preppedSentence = sentence;
         String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
 
+        String foldedPrefix = foldCase(preppedPrefix);
         return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(word -> word.toLowerCase().startsWith(preppedPrefix.toLowerCase()));
+                .anyMatch(word -> foldCase(word).startsWith(foldedPrefix));
     }
 
     /**
@@ -92,4 +93,80 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the length {@code s} would have after {@link String#trim()}, without creating the trimmed string.
+     */
+    public static int trimmedLength(String s) {
+        requireNonNull(s);
+
+        int start = 0;
+        int end = s.length();
+        while (start < end && s.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end - start;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, which is what {@code \p{Alnum}} matches in a regex.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, which is what {@code \d} matches in a regex.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is one of the whitespace characters that {@code \s} matches in a regex.
+     */
+    public static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code s} contains {@code part} at {@code offset}, ignoring the case of ASCII letters only,
+     * which is what the {@code (?i)} flag does in a regex.
+     */
+    public static boolean regionMatchesIgnoreAsciiCase(String s, int offset, String part) {
+        requireNonNull(s);
+        requireNonNull(part);
+
+        if (offset < 0 || offset + part.length() > s.length()) {
+            return false;
+        }
+        for (int i = 0; i < part.length(); i++) {
+            if (toAsciiLowerCase(s.charAt(offset + i)) != toAsciiLowerCase(part.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code s} with each character folded so that two strings fold to the same string exactly when
+     * they are equal ignoring case, and folded strings compare with {@link String#compareTo(String)} the way
+     * the original strings compare with {@link String#compareToIgnoreCase(String)}.
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+
+        char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private static char toAsciiLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
 }
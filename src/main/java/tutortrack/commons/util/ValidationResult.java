@@ -0,0 +1,69 @@
+package tutortrack.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The outcome of validating a value: either valid, or invalid with a message saying what is wrong with it.
+ * Validators keep one instance per outcome, so validating a value does not create any objects.
+ */
+public final class ValidationResult {
+
+    public static final ValidationResult VALID = new ValidationResult(null);
+
+    private final String errorMessage;
+
+    private ValidationResult(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Returns a result for an invalid value, described by {@code errorMessage}.
+     */
+    public static ValidationResult invalid(String errorMessage) {
+        requireNonNull(errorMessage);
+        return new ValidationResult(errorMessage);
+    }
+
+    public boolean isValid() {
+        return errorMessage == null;
+    }
+
+    /**
+     * Returns the message saying why the value is invalid.
+     *
+     * @throws IllegalStateException if the value is valid.
+     */
+    public String getErrorMessage() {
+        if (errorMessage == null) {
+            throw new IllegalStateException("A valid value has no error message.");
+        }
+        return errorMessage;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ValidationResult)) {
+            return false;
+        }
+
+        ValidationResult otherResult = (ValidationResult) other;
+        return errorMessage == null ? otherResult.errorMessage == null : errorMessage.equals(otherResult.errorMessage);
+    }
+
+    @Override
+    public int hashCode() {
+        return errorMessage == null ? 0 : errorMessage.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("errorMessage", errorMessage)
+                .toString();
+    }
+}
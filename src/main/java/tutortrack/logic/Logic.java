@@ -1,6 +1,7 @@
 package tutortrack.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import tutortrack.commons.core.GuiSettings;
@@ -24,6 +25,13 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given the error message when saving the address book fails
+     * after {@link #execute(String)} has already returned.
+     * The handler may be called from a background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
     /**
      * Returns the AddressBook.
      *
@@ -3,6 +3,7 @@ package tutortrack.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,6 +17,7 @@ import tutortrack.logic.parser.exceptions.ParseException;
 import tutortrack.model.Model;
 import tutortrack.model.ReadOnlyAddressBook;
 import tutortrack.model.person.Person;
+import tutortrack.storage.BackgroundAddressBookSaver;
 import tutortrack.storage.Storage;
 
 /**
@@ -32,14 +34,32 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final BackgroundAddressBookSaver addressBookSaver;
+
+    // Version of the model's address book as last written to storage
+    private long savedAddressBookVersion;
+    private int savesPerformed;
+    private int savesSkipped;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved before {@link #execute(String)} returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved by {@code addressBookSaver} in the background, or before
+     * {@link #execute(String)} returns if {@code addressBookSaver} is null.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundAddressBookSaver addressBookSaver) {
         this.model = model;
         this.storage = storage;
+        this.addressBookSaver = addressBookSaver;
         addressBookParser = new AddressBookParser();
+        savedAddressBookVersion = model.getAddressBookVersion();
     }
 
     @Override
@@ -50,17 +70,66 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-        }
+        saveAddressBookIfChanged();
 
         return commandResult;
     }
 
+    /**
+     * Saves the model's address book to storage, unless it is unchanged since it was last saved.
+     * A failed save is retried after the next command.
+     */
+    private void saveAddressBookIfChanged() throws CommandException {
+        long version = model.getAddressBookVersion();
+        boolean isLastSaveFailed = addressBookSaver != null && addressBookSaver.isLastSaveFailed();
+        if (version == savedAddressBookVersion && !isLastSaveFailed) {
+            savesSkipped++;
+            logger.fine("Address book unchanged, skipped saving (" + savesSkipped + " skipped, "
+                    + savesPerformed + " performed)");
+            return;
+        }
+
+        if (addressBookSaver != null) {
+            addressBookSaver.save(model.getAddressBook());
+        } else {
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException ioe) {
+                throw new CommandException(getSaveErrorMessage(ioe), ioe);
+            }
+        }
+        savedAddressBookVersion = version;
+        savesPerformed++;
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    /**
+     * Returns the number of commands after which the address book was saved.
+     */
+    public int getSavesPerformed() {
+        return savesPerformed;
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book was unchanged.
+     */
+    public int getSavesSkipped() {
+        return savesSkipped;
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        if (addressBookSaver != null) {
+            addressBookSaver.setErrorHandler(ioe -> saveErrorHandler.accept(getSaveErrorMessage(ioe)));
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
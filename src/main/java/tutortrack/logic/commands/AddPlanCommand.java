@@ -43,8 +43,7 @@ public class AddPlanCommand extends ModifyLessonItemCommand {
                     MESSAGE_DUPLICATE_PLAN,
                     toAdd.getDate()));
         }
-        personToEdit.addLessonPlan(toAdd);
-        return personToEdit;
+        return personToEdit.withLessonPlanAdded(toAdd);
     }
 
     @Override
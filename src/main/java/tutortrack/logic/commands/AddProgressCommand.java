@@ -42,8 +42,7 @@ public class AddProgressCommand extends ModifyLessonItemCommand {
                     MESSAGE_DUPLICATE_PROGRESS,
                     toAdd.getDate()));
         }
-        personToEdit.addLessonProgress(toAdd);
-        return personToEdit;
+        return personToEdit.withLessonProgressAdded(toAdd);
     }
 
     @Override
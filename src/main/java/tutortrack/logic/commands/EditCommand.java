@@ -120,12 +120,12 @@ public class EditCommand extends Command {
         Address updatedAddress = editPersonDescriptor.getAddress().orElse(personToEdit.getAddress());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
 
-        Person editedPerson = new Person(updatedName, updatedSelfContact, updatedNokContact, updatedSubjectLevel,
-                updatedDayTime, updatedHourlyRate, updatedAddress, updatedTags);
+        // The edited person keeps the id of the original person.
+        Person editedPerson = new Person(personToEdit.getId(), updatedName, updatedSelfContact, updatedNokContact,
+                updatedSubjectLevel, updatedDayTime, updatedHourlyRate, updatedAddress, updatedTags);
 
         // Preserve lesson progress and lesson plan from the original person.
-        editedPerson.getLessonProgressList().addAll(personToEdit.getLessonProgressList());
-        editedPerson.getLessonPlanList().addAll(personToEdit.getLessonPlanList());
+        editedPerson.takeLessonHistoryFrom(personToEdit);
 
         return editedPerson;
     }
@@ -3,11 +3,11 @@ package tutortrack.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import tutortrack.commons.core.LogsCenter;
 import tutortrack.commons.util.ToStringBuilder;
 import tutortrack.logic.Messages;
@@ -17,7 +17,9 @@ import tutortrack.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name, subject level, tags, or lesson day match the search
- * criteria. Keyword matching is case insensitive and uses prefix matching for names.
+ * criteria. Keyword matching is case insensitive and uses prefix matching for names. Subject level, tag and
+ * lesson day criteria can be combined, in which case a person must match all of them, and several such searches
+ * can be given as alternatives, in which case a person must match at least one of them.
  */
 public class FindCommand extends Command {
 
@@ -26,12 +28,15 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names start with any of "
         + "the specified keywords (case-insensitive prefix matching), whose subject level matches the given subject, "
         + "or whose tags contain the specified keywords, and displays them as a list with index numbers.\n"
-        + "Parameters: KEYWORD [MORE_KEYWORDS]... OR s/SUBJECT_LEVEL OR t/TAG_KEYWORD [MORE_TAG_KEYWORDS]... OR d/DAY\n"
+        + "Parameters: KEYWORD [MORE_KEYWORDS]... OR [s/SUBJECT_LEVEL] [t/TAG_KEYWORD [MORE_TAG_KEYWORDS]...] [d/DAY]"
+        + " [| MORE_PREFIXES]...\n"
         + "Examples:\n"
         + COMMAND_WORD + " alice bob charlie (searches by name prefix)\n"
         + COMMAND_WORD + " s/P4-Math (searches by subject level, case-insensitive)\n"
         + COMMAND_WORD + " t/Exams (searches by tag)\n"
-        + COMMAND_WORD + " d/Monday (searches by lesson day, sorted by time)";
+        + COMMAND_WORD + " d/Monday (searches by lesson day, sorted by time)\n"
+        + COMMAND_WORD + " d/Monday s/P6-Math t/Exams (persons must match all of the given prefixes)\n"
+        + COMMAND_WORD + " d/Monday s/P6-Math | t/Exams (persons must match all the prefixes on one side of |)";
 
     private static final Logger logger = LogsCenter.getLogger(FindCommand.class);
 
@@ -59,27 +64,18 @@ public class FindCommand extends Command {
         requireNonNull(model);
         logger.info("Executing find command with predicate: " + searchPredicate.getClass().getSimpleName());
 
-        // Obtain the number of matches to determine if filter should be applied
-        ObservableList<Person> fullList = model.getAddressBook().getPersonList();
-        long matchCount = fullList.stream()
-                            .filter(searchPredicate)
-                            .count();
+        // Find and show the matches in one pass, leaving the displayed list unchanged if there are none
+        List<Person> matches = comparator.isPresent()
+                ? model.showSearchResult(searchPredicate, comparator.get())
+                : model.showSearchResult(searchPredicate);
 
         // If no matches are found, throw command exception
-        if (matchCount == 0) {
+        if (matches.isEmpty()) {
             logger.info("No matches found for search criteria");
             throw new CommandException(Messages.MESSAGE_NO_PERSONS_FOUND);
         }
 
-        // If there are matches, apply the filter to display the results
-        if (comparator.isPresent()) {
-            model.updateFilteredPersonList(searchPredicate, comparator.get());
-        } else {
-            model.updateFilteredPersonList(searchPredicate);
-        }
-
-        // Get the size of the filtered list
-        int resultCount = model.getFilteredPersonList().size();
+        int resultCount = matches.size();
         logger.info("Find command executed successfully. Found " + resultCount + " person(s)");
 
         return new CommandResult(
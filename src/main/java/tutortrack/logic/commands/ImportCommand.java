@@ -0,0 +1,231 @@
+package tutortrack.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import tutortrack.commons.util.ToStringBuilder;
+import tutortrack.logic.commands.exceptions.CommandException;
+import tutortrack.logic.parser.PersonCsvParser;
+import tutortrack.logic.parser.exceptions.ParseException;
+import tutortrack.model.Model;
+import tutortrack.model.person.Person;
+
+/**
+ * Adds the students in a CSV file to the address book.
+ * <p>
+ * The file is read a line at a time, and its rows are parsed and checked in batches of {@link #ROW_BATCH_SIZE},
+ * each in parallel if it is large, so only one batch of lines is held in memory at a time. Rows that
+ * are invalid or name a student who is already in the address book, or in an earlier row, are reported and skipped
+ * rather than stopping the import. The other students are added to the model in a single batch, so the address
+ * book is saved only once, after the command.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the students in a CSV file to the address book. "
+            + "The first row names the columns "
+            + PersonCsvParser.COLUMN_NAME + ", "
+            + PersonCsvParser.COLUMN_SUBJECT_LEVEL + ", "
+            + PersonCsvParser.COLUMN_DAY_TIME + ", "
+            + PersonCsvParser.COLUMN_HOURLY_RATE + ", "
+            + PersonCsvParser.COLUMN_ADDRESS + " and any of "
+            + PersonCsvParser.COLUMN_SELF_CONTACT + ", "
+            + PersonCsvParser.COLUMN_NOK_CONTACT + ", "
+            + PersonCsvParser.COLUMN_TAGS + ", "
+            + PersonCsvParser.COLUMN_LESSON_PLANS + ", "
+            + PersonCsvParser.COLUMN_LESSON_PROGRESS + ".\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/students.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d student(s) from %2$s.";
+    public static final String MESSAGE_ROWS_SKIPPED = "%1$d row(s) skipped:";
+    public static final String MESSAGE_MORE_ROWS_SKIPPED = "...and %1$d more.";
+    public static final String MESSAGE_ROW_ERROR = "Row %1$d: %2$s";
+    public static final String MESSAGE_DUPLICATE_ROW = "This person is already in an earlier row.";
+    public static final String MESSAGE_EMPTY_FILE = "The file %1$s is empty.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File %1$s does not exist.";
+    public static final String MESSAGE_READ_ERROR = "Could not read the file %1$s: %2$s";
+
+    /** Number of rows read before they are parsed and checked, so that the file is never held in memory whole. */
+    static final int ROW_BATCH_SIZE = 4096;
+    /** Batches with fewer rows than this are parsed on the calling thread, as splitting them up costs more. */
+    static final int MIN_PARALLEL_ROWS = 256;
+    /** Number of skipped rows whose errors are listed in the result, so that a bad file does not flood the display. */
+    static final int MAX_REPORTED_ERRORS = 10;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the students in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ImportResult result = new ImportResult();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new CommandException(String.format(MESSAGE_EMPTY_FILE, filePath));
+            }
+            PersonCsvParser parser = new PersonCsvParser(header);
+
+            List<Row> batch = new ArrayList<>(ROW_BATCH_SIZE);
+            int rowNumber = 1;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                rowNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                batch.add(new Row(rowNumber, line));
+                if (batch.size() == ROW_BATCH_SIZE) {
+                    result.addRows(batch, parser, model);
+                    batch.clear();
+                }
+            }
+            result.addRows(batch, parser, model);
+        } catch (NoSuchFileException nsfe) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath), nsfe);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, ioe.getMessage()), ioe);
+        } catch (ParseException pe) {
+            throw new CommandException(pe.getMessage(), pe);
+        }
+
+        if (!result.persons.isEmpty()) {
+            model.addPersons(result.persons);
+        }
+        return new CommandResult(result.getMessage(filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * The persons to import from the rows checked so far, and the errors of the rows that were skipped.
+     * Only the first {@link #MAX_REPORTED_ERRORS} errors are kept, as the others are only counted.
+     */
+    private static class ImportResult {
+        private final List<Person> persons = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+        private final Set<String> identityKeys = new HashSet<>();
+        private int errorCount;
+
+        /**
+         * Parses {@code rows}, in parallel if there are many of them, and keeps the persons in them that are
+         * neither in {@code model} nor in an earlier row, in order.
+         */
+        void addRows(List<Row> rows, PersonCsvParser parser, Model model) {
+            Stream<Row> stream = rows.size() < MIN_PARALLEL_ROWS ? rows.stream() : rows.parallelStream();
+            List<Row> parsedRows = stream.map(row -> row.parse(parser)).collect(Collectors.toList());
+
+            for (Row row : parsedRows) {
+                if (row.error != null) {
+                    addError(row.getErrorMessage(row.error));
+                } else if (model.hasPerson(row.person)) {
+                    addError(row.getErrorMessage(AddCommand.MESSAGE_DUPLICATE_PERSON));
+                } else if (row.person.getIdentityKey() != null && !identityKeys.add(row.person.getIdentityKey())) {
+                    addError(row.getErrorMessage(MESSAGE_DUPLICATE_ROW));
+                } else {
+                    persons.add(row.person);
+                }
+            }
+        }
+
+        private void addError(String error) {
+            errorCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+        }
+
+        String getMessage(Path filePath) {
+            StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, persons.size(), filePath));
+            if (errorCount == 0) {
+                return message.toString();
+            }
+
+            message.append('\n').append(String.format(MESSAGE_ROWS_SKIPPED, errorCount));
+            errors.forEach(error -> message.append('\n').append(error));
+            if (errorCount > errors.size()) {
+                message.append('\n').append(String.format(MESSAGE_MORE_ROWS_SKIPPED, errorCount - errors.size()));
+            }
+            return message.toString();
+        }
+    }
+
+    /**
+     * A row of the CSV file, with either the person parsed from it or the reason it could not be parsed once
+     * {@link #parse(PersonCsvParser)} is called.
+     */
+    private static class Row {
+        private final int rowNumber;
+        private final String line;
+        private final Person person;
+        private final String error;
+
+        Row(int rowNumber, String line) {
+            this(rowNumber, line, null, null);
+        }
+
+        private Row(int rowNumber, String line, Person person, String error) {
+            this.rowNumber = rowNumber;
+            this.line = line;
+            this.person = person;
+            this.error = error;
+        }
+
+        /**
+         * Returns this row with the person parsed from it by {@code parser}, or with the parse error.
+         * The returned row no longer holds the line, which is not needed any more.
+         */
+        Row parse(PersonCsvParser parser) {
+            try {
+                return new Row(rowNumber, null, parser.parseRow(line), null);
+            } catch (ParseException pe) {
+                return new Row(rowNumber, null, null, pe.getMessage());
+            }
+        }
+
+        String getErrorMessage(String error) {
+            return String.format(MESSAGE_ROW_ERROR, rowNumber, error);
+        }
+    }
+}
@@ -30,6 +30,9 @@ import tutortrack.model.tag.Tag;
  */
 public class AddCommandParser implements Parser<AddCommand> {
 
+    public static final String MESSAGE_MISSING_CONTACT = "At least one of the contacts must be provided.";
+    public static final String MESSAGE_SAME_CONTACTS = "Two contact numbers cannot be the same.";
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
@@ -47,7 +50,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         }
         if (!argMultimap.getValue(PREFIX_SELF_CONTACT).isPresent()
                     && !argMultimap.getValue(PREFIX_NOK_CONTACT).isPresent()) {
-            throw new ParseException("At least one of the contacts must be provided.");
+            throw new ParseException(MESSAGE_MISSING_CONTACT);
         }
 
         argMultimap.verifyNoDuplicatePrefixesFor(
@@ -63,7 +66,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         Phone nokContact = nokContactStr.isPresent() ? ParserUtil.parsePhone(nokContactStr.get()) : null;
 
         if (selfContact != null && selfContact.equals(nokContact)) {
-            throw new ParseException("Two contact numbers cannot be the same.");
+            throw new ParseException(MESSAGE_SAME_CONTACTS);
         }
         SubjectLevel subjectLevel = ParserUtil.parseSubjectLevel(argMultimap.getValue(PREFIX_SUBJECTLEVEL).get());
         DayTime dayTime = ParserUtil.parseDayTime(argMultimap.getValue(PREFIX_DAYTIME).get());
@@ -22,6 +22,7 @@ import tutortrack.logic.commands.EditProgressCommand;
 import tutortrack.logic.commands.ExitCommand;
 import tutortrack.logic.commands.FindCommand;
 import tutortrack.logic.commands.HelpCommand;
+import tutortrack.logic.commands.ImportCommand;
 import tutortrack.logic.commands.ListCommand;
 import tutortrack.logic.commands.ViewLessonsCommand;
 import tutortrack.logic.parser.exceptions.ParseException;
@@ -81,6 +82,9 @@ public class AddressBookParser {
         case DeleteCommand.COMMAND_WORD:
             return new DeleteCommandParser().parse(arguments);
 
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
@@ -1,25 +1,33 @@
 package tutortrack.logic.parser;
 
+import static tutortrack.logic.Messages.MESSAGE_FIND_ALTERNATIVE_WITHOUT_PREFIX;
 import static tutortrack.logic.Messages.MESSAGE_FIND_DUPLICATE_DAY;
 import static tutortrack.logic.Messages.MESSAGE_FIND_DUPLICATE_SUBJECT;
 import static tutortrack.logic.Messages.MESSAGE_FIND_DUPLICATE_TAG;
-import static tutortrack.logic.Messages.MESSAGE_FIND_MULTIPLE_PREFIXES;
 import static tutortrack.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutortrack.logic.parser.CliSyntax.PREFIX_DAYTIME;
 import static tutortrack.logic.parser.CliSyntax.PREFIX_SUBJECTLEVEL;
 import static tutortrack.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import tutortrack.commons.core.LogsCenter;
 import tutortrack.logic.commands.FindCommand;
 import tutortrack.logic.parser.exceptions.ParseException;
+import tutortrack.model.person.AnySearchPredicate;
+import tutortrack.model.person.CombinedSearchPredicate;
 import tutortrack.model.person.LessonDayPredicate;
 import tutortrack.model.person.NameContainsKeywordsPredicate;
+import tutortrack.model.person.Person;
 import tutortrack.model.person.SubjectLevel;
 import tutortrack.model.person.SubjectLevelMatchesPredicate;
 import tutortrack.model.person.TagContainsKeywordsPredicate;
@@ -29,6 +37,9 @@ import tutortrack.model.person.TagContainsKeywordsPredicate;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    /** Separates alternative searches, of which a person must match at least one */
+    public static final String ALTERNATIVE_SEPARATOR = "|";
+
     private static final Logger logger = LogsCenter.getLogger(FindCommandParser.class);
 
     /** Map of prefixes to their duplicate error messages for find command validation */
@@ -58,6 +69,9 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     public FindCommand parse(String args) throws ParseException {
         String trimmedArgs = validateAndTrimArgs(args);
+        if (trimmedArgs.contains(ALTERNATIVE_SEPARATOR)) {
+            return createAnyFindCommand(trimmedArgs);
+        }
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
                 PREFIX_TAG, PREFIX_DAYTIME, PREFIX_SUBJECTLEVEL);
         validatePrefixUsage(argMultimap);
@@ -80,19 +94,15 @@ public class FindCommandParser implements Parser<FindCommand> {
     }
 
     /**
-     * Validates prefix usage to ensure no multiple or duplicate prefixes, and no invalid preamble.
+     * Validates prefix usage to ensure no duplicate prefixes, and no invalid preamble.
+     * Different prefixes may be combined, in which case a person must match all of them.
      * @throws ParseException if validation fails
      */
     private void validatePrefixUsage(ArgumentMultimap argMultimap) throws ParseException {
-        // Check for multiple different prefixes
         long prefixCount = Stream.of(PREFIX_TAG, PREFIX_DAYTIME, PREFIX_SUBJECTLEVEL)
                 .filter(prefix -> argMultimap.getValue(prefix).isPresent())
                 .count();
 
-        if (prefixCount > 1) {
-            throw new ParseException(MESSAGE_FIND_MULTIPLE_PREFIXES);
-        }
-
         // Check for duplicate usage of the same prefix
         for (Map.Entry<Prefix, String> entry : DUPLICATE_PREFIX_ERRORS.entrySet()) {
             if (argMultimap.getAllValues(entry.getKey()).size() > 1) {
@@ -117,40 +127,83 @@ public class FindCommandParser implements Parser<FindCommand> {
 
     /**
      * Creates the appropriate FindCommand based on the prefixes and arguments provided.
-     *
-     * Dispatcher pattern: While blocks appear similar, abstraction is avoided as each search type
-     * (day, subject, tag, name) has unique validation, predicates, and command construction logic.
-     * Explicit routing enhances readability and maintainability.
+     * When several prefixes are given, their predicates are combined so that a person must match all of them.
+     * Without any prefix, the arguments are searched for as name keywords.
      */
     private FindCommand createFindCommand(ArgumentMultimap argMultimap, String trimmedArgs)
             throws ParseException {
+        List<Predicate<Person>> criteria = parseCriteria(argMultimap);
+        if (!criteria.isEmpty()) {
+            Predicate<Person> predicate = criteria.size() == 1
+                    ? criteria.get(0)
+                    : new CombinedSearchPredicate(criteria);
+            Optional<Comparator<Person>> comparator = criteria.stream()
+                    .filter(criterion -> criterion instanceof LessonDayPredicate)
+                    .map(criterion -> ((LessonDayPredicate) criterion).getComparator())
+                    .findFirst();
+            return comparator.isPresent() ? new FindCommand(predicate, comparator.get()) : new FindCommand(predicate);
+        }
+
+        // Name search (default)
+        String[] nameKeywords = trimmedArgs.split("\\s+");
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords));
+        return new FindCommand(predicate, predicate.getComparator());
+    }
+
+    /**
+     * Creates a FindCommand for persons that match any of the alternatives in {@code trimmedArgs}, which are
+     * separated by {@value #ALTERNATIVE_SEPARATOR}. Each alternative is parsed like a search with prefixes, and
+     * a person must match all the prefixes of at least one alternative.
+     *
+     * @throws ParseException if an alternative is invalid, or has no prefixes, such as a name search.
+     */
+    private FindCommand createAnyFindCommand(String trimmedArgs) throws ParseException {
+        List<CombinedSearchPredicate> alternatives = new ArrayList<>();
+        for (String alternative : trimmedArgs.split(Pattern.quote(ALTERNATIVE_SEPARATOR), -1)) {
+            // The tokenizer only recognises a prefix that follows a space
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + alternative.trim(),
+                    PREFIX_TAG, PREFIX_DAYTIME, PREFIX_SUBJECTLEVEL);
+            validatePrefixUsage(argMultimap);
+            List<Predicate<Person>> criteria = parseCriteria(argMultimap);
+            if (criteria.isEmpty()) {
+                throw new ParseException(MESSAGE_FIND_ALTERNATIVE_WITHOUT_PREFIX);
+            }
+            alternatives.add(new CombinedSearchPredicate(criteria));
+        }
+        return new FindCommand(new AnySearchPredicate(alternatives));
+    }
+
+    /**
+     * Returns the predicates for the prefixes in {@code argMultimap}, or an empty list if there are none.
+     *
+     * Dispatcher pattern: While blocks appear similar, abstraction is avoided as each search type
+     * (day, subject, tag) has unique validation and predicates. Explicit routing enhances readability and
+     * maintainability.
+     */
+    private List<Predicate<Person>> parseCriteria(ArgumentMultimap argMultimap) throws ParseException {
+        List<Predicate<Person>> criteria = new ArrayList<>();
+
         // Day/time search
         if (argMultimap.getValue(PREFIX_DAYTIME).isPresent()) {
             String dayKeyword = extractNonEmptyValue(argMultimap, PREFIX_DAYTIME);
             String validatedDay = ParserUtil.parseDay(dayKeyword);
-            LessonDayPredicate predicate = new LessonDayPredicate(validatedDay);
-            return new FindCommand(predicate, predicate.getComparator());
+            criteria.add(new LessonDayPredicate(validatedDay));
         }
 
         // Subject-level search
         if (argMultimap.getValue(PREFIX_SUBJECTLEVEL).isPresent()) {
             String subject = extractNonEmptyValue(argMultimap, PREFIX_SUBJECTLEVEL);
             SubjectLevel parsedSubject = ParserUtil.parseSubjectLevel(subject);
-            SubjectLevelMatchesPredicate predicate = new SubjectLevelMatchesPredicate(parsedSubject.toString());
-            return new FindCommand(predicate);
+            criteria.add(new SubjectLevelMatchesPredicate(parsedSubject.toString()));
         }
 
         // Tag search
         if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
             String tagKeywordsString = extractNonEmptyValue(argMultimap, PREFIX_TAG);
             List<String> tagKeywords = Arrays.asList(tagKeywordsString.split("\\s+"));
-            return new FindCommand(new TagContainsKeywordsPredicate(tagKeywords));
+            criteria.add(new TagContainsKeywordsPredicate(tagKeywords));
         }
-
-        // Name search (default)
-        String[] nameKeywords = trimmedArgs.split("\\s+");
-        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords));
-        return new FindCommand(predicate, predicate.getComparator());
+        return criteria;
     }
 
 }
@@ -10,9 +10,11 @@ import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import tutortrack.commons.core.index.Index;
 import tutortrack.commons.util.StringUtil;
+import tutortrack.commons.util.ValidationResult;
 import tutortrack.logic.parser.exceptions.ParseException;
 import tutortrack.model.lesson.LessonPlan;
 import tutortrack.model.lesson.LessonProgress;
@@ -32,6 +34,10 @@ public class ParserUtil {
     public static final String MESSAGE_INVALID_INDEX =
             "Invalid index. Please use a valid number from the displayed list (e.g., 1, 2, 3).";
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern DATE_FORMAT = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+    private static final Pattern TIME_FORMAT = Pattern.compile("\\d{4}");
+
     /**
      * Represents a pair of Index and LocalDate.
      */
@@ -115,7 +121,7 @@ public class ParserUtil {
             return LocalDate.parse(trimmedDate);
         } catch (DateTimeParseException e) {
             // Check if format is correct (yyyy-MM-dd)
-            if (!trimmedDate.matches("\\d{4}-\\d{2}-\\d{2}")) {
+            if (!DATE_FORMAT.matcher(trimmedDate).matches()) {
                 throw new ParseException("Invalid date format. Use yyyy-MM-dd (e.g., 2025-10-15).", e);
             }
 
@@ -145,6 +151,17 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Checks that {@code result} is valid.
+     *
+     * @throws ParseException with the error message of {@code result} if it is invalid.
+     */
+    private static void checkValid(ValidationResult result) throws ParseException {
+        if (!result.isValid()) {
+            throw new ParseException(result.getErrorMessage());
+        }
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -154,21 +171,9 @@ public class ParserUtil {
     public static Name parseName(String name) throws ParseException {
         requireNonNull(name);
         // Trim leading/trailing whitespace and collapse consecutive internal whitespace to a single space.
-        String trimmedName = name.trim().replaceAll("\\s+", " ");
+        String trimmedName = WHITESPACE.matcher(name.trim()).replaceAll(" ");
         // Provide more specific error messages for common failure modes.
-        if (Name.isBlank(trimmedName)) {
-            throw new ParseException(Name.MESSAGE_BLANK);
-        }
-        if (Name.isTooShort(trimmedName)) {
-            throw new ParseException(Name.MESSAGE_TOO_SHORT);
-        }
-        if (Name.hasInvalidChars(trimmedName)) {
-            throw new ParseException(Name.MESSAGE_INVALID_CHARS);
-        }
-        // final defensive check
-        if (!Name.isValidName(trimmedName)) {
-            throw new ParseException(Name.MESSAGE_CONSTRAINTS);
-        }
+        checkValid(Name.validate(trimmedName));
         return new Name(trimmedName);
     }
 
@@ -182,18 +187,7 @@ public class ParserUtil {
         requireNonNull(phone);
         String trimmedPhone = phone.trim();
         // Provide more specific error messages for phone
-        if (Phone.isBlank(trimmedPhone)) {
-            throw new ParseException(Phone.MESSAGE_BLANK);
-        }
-        if (Phone.hasInvalidChars(trimmedPhone)) {
-            throw new ParseException(Phone.MESSAGE_INVALID_CHARS);
-        }
-        if (Phone.isTooShort(trimmedPhone)) {
-            throw new ParseException(Phone.MESSAGE_TOO_SHORT);
-        }
-        if (!Phone.isValidPhone(trimmedPhone)) {
-            throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
-        }
+        checkValid(Phone.validate(trimmedPhone));
         return new Phone(trimmedPhone);
     }
 
@@ -221,19 +215,8 @@ public class ParserUtil {
     public static SubjectLevel parseSubjectLevel(String subjectLevel) throws ParseException {
         requireNonNull(subjectLevel);
         String trimmedSubjectLevel = subjectLevel.trim();
-        if (SubjectLevel.isBlank(trimmedSubjectLevel)) {
-            throw new ParseException(SubjectLevel.MESSAGE_BLANK);
-        }
-        if (SubjectLevel.hasInvalidFormat(trimmedSubjectLevel)) {
-            throw new ParseException(SubjectLevel.MESSAGE_INVALID_FORMAT);
-        }
-        if (SubjectLevel.hasInvalidChars(trimmedSubjectLevel)) {
-            throw new ParseException(SubjectLevel.MESSAGE_INVALID_CHARS);
-        }
-        if (!SubjectLevel.isValidSubjectLevel(trimmedSubjectLevel)) {
-            throw new ParseException(SubjectLevel.MESSAGE_CONSTRAINTS);
-        }
-        return new SubjectLevel(trimmedSubjectLevel);
+        checkValid(SubjectLevel.validate(trimmedSubjectLevel));
+        return SubjectLevel.of(trimmedSubjectLevel);
     }
 
     /**
@@ -246,7 +229,7 @@ public class ParserUtil {
         requireNonNull(dayTime);
         String trimmedDayTime = dayTime.trim();
         // Basic split to provide clearer error messages: check day and time separately
-        String[] parts = trimmedDayTime.split("\\s+", 2);
+        String[] parts = WHITESPACE.split(trimmedDayTime, 2);
         if (parts.length != 2) {
             throw new ParseException(DayTime.MESSAGE_CONSTRAINTS);
         }
@@ -255,12 +238,12 @@ public class ParserUtil {
         String timePart = parts[1];
 
         // If day is not a full weekday name, inform user explicitly
-        if (!dayPart.matches("(?i)^(Monday|Tuesday|Wednesday|Thursday|Friday|Saturday|Sunday)$")) {
+        if (!DayTime.isValidDayName(dayPart)) {
             throw new ParseException(MESSAGE_INVALID_DAY);
         }
 
         // Time must be exactly 4 digits (HHMM)
-        if (!timePart.matches("\\d{4}")) {
+        if (!TIME_FORMAT.matcher(timePart).matches()) {
             throw new ParseException(DayTime.MESSAGE_CONSTRAINTS);
         }
 
@@ -270,7 +253,7 @@ public class ParserUtil {
             throw new ParseException("Invalid time: '" + timePart + "' is not a valid 24-hour time (HHMM).");
         }
 
-        return new DayTime(trimmedDayTime);
+        return DayTime.of(trimmedDayTime);
     }
 
     /**
@@ -283,7 +266,7 @@ public class ParserUtil {
         requireNonNull(day);
         String trimmedDay = day.trim();
 
-        if (!trimmedDay.matches("(?i)^(Monday|Tuesday|Wednesday|Thursday|Friday|Saturday|Sunday)$")) {
+        if (!DayTime.isValidDayName(trimmedDay)) {
             throw new ParseException(MESSAGE_INVALID_DAY);
         }
 
@@ -300,17 +283,9 @@ public class ParserUtil {
         requireNonNull(hourlyRate);
         String trimmedHourlyRate = hourlyRate.trim();
         // Provide clearer error messages for common failure modes
-        if (HourlyRate.isMissingDollar(trimmedHourlyRate)) {
-            throw new ParseException(HourlyRate.MESSAGE_MISSING_DOLLAR);
-        }
-        if (HourlyRate.hasIncorrectDecimalPlaces(trimmedHourlyRate)) {
-            throw new ParseException(HourlyRate.MESSAGE_TOO_MANY_DECIMALS);
-        }
-        if (!HourlyRate.isValidHourlyRate(trimmedHourlyRate)) {
-            throw new ParseException(HourlyRate.MESSAGE_CONSTRAINTS);
-        }
+        checkValid(HourlyRate.validate(trimmedHourlyRate));
 
-        return new HourlyRate(trimmedHourlyRate);
+        return HourlyRate.of(trimmedHourlyRate);
     }
 
     /**
@@ -325,7 +300,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -0,0 +1,212 @@
+package tutortrack.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import tutortrack.logic.parser.exceptions.ParseException;
+import tutortrack.model.lesson.LessonPlan;
+import tutortrack.model.lesson.LessonProgress;
+import tutortrack.model.person.Address;
+import tutortrack.model.person.DayTime;
+import tutortrack.model.person.HourlyRate;
+import tutortrack.model.person.Name;
+import tutortrack.model.person.Person;
+import tutortrack.model.person.Phone;
+import tutortrack.model.person.SubjectLevel;
+import tutortrack.model.tag.Tag;
+
+/**
+ * Parses the rows of a CSV file of students into persons.
+ * <p>
+ * The first row of the file is the header, which names the columns in any order, ignoring case. Each later row is
+ * one student, whose fields are parsed with {@link ParserUtil} as the {@code add}, {@code addplan} and
+ * {@code addprogress} commands parse them. Fields may be quoted, with {@code ""} standing for a quote in a quoted
+ * field, but may not span lines. The tags, lesson plans and lesson progress columns hold a list of values separated
+ * by {@value #LIST_SEPARATOR}, and each lesson is written {@code DATE|DESCRIPTION}.
+ * <p>
+ * A parser holds no state other than the header, so one parser can parse rows on several threads at once.
+ */
+public class PersonCsvParser {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_SELF_CONTACT = "selfContact";
+    public static final String COLUMN_NOK_CONTACT = "nokContact";
+    public static final String COLUMN_SUBJECT_LEVEL = "subjectLevel";
+    public static final String COLUMN_DAY_TIME = "dayTime";
+    public static final String COLUMN_HOURLY_RATE = "hourlyRate";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_TAGS = "tags";
+    public static final String COLUMN_LESSON_PLANS = "lessonPlans";
+    public static final String COLUMN_LESSON_PROGRESS = "lessonProgress";
+
+    public static final String LIST_SEPARATOR = ";";
+
+    public static final String MESSAGE_MISSING_COLUMNS = "The CSV header must name the columns %1$s.";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "The CSV header has an unknown column: %1$s";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "The CSV header has the column %1$s more than once.";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed.";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "A quoted field is followed by text other than a comma.";
+    public static final String MESSAGE_DUPLICATE_LESSON_DATE = "More than one %1$s on %2$s.";
+
+    private static final List<String> REQUIRED_COLUMNS = Arrays.asList(
+            COLUMN_NAME, COLUMN_SUBJECT_LEVEL, COLUMN_DAY_TIME, COLUMN_HOURLY_RATE, COLUMN_ADDRESS);
+    private static final List<String> COLUMNS = Arrays.asList(
+            COLUMN_NAME, COLUMN_SELF_CONTACT, COLUMN_NOK_CONTACT, COLUMN_SUBJECT_LEVEL, COLUMN_DAY_TIME,
+            COLUMN_HOURLY_RATE, COLUMN_ADDRESS, COLUMN_TAGS, COLUMN_LESSON_PLANS, COLUMN_LESSON_PROGRESS);
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    /** Position of each column named in the header, keyed by the column's name as spelt in {@link #COLUMNS}. */
+    private final Map<String, Integer> columnPositions = new HashMap<>();
+    private final int columnCount;
+
+    /**
+     * Creates a parser for the rows that follow the header row {@code header}.
+     *
+     * @throws ParseException if the header names an unknown column, names a column twice or misses a required one.
+     */
+    public PersonCsvParser(String header) throws ParseException {
+        requireNonNull(header);
+        // Spreadsheet programs often start a CSV file with a byte order mark
+        String headerRow = !header.isEmpty() && header.charAt(0) == BYTE_ORDER_MARK ? header.substring(1) : header;
+
+        Map<String, String> columnsByFoldedName = new HashMap<>();
+        COLUMNS.forEach(column -> columnsByFoldedName.put(column.toLowerCase(Locale.ROOT), column));
+        List<String> headerFields = splitFields(headerRow);
+        for (int i = 0; i < headerFields.size(); i++) {
+            String headerField = headerFields.get(i).trim();
+            String column = columnsByFoldedName.get(headerField.toLowerCase(Locale.ROOT));
+            if (column == null) {
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_COLUMN, headerField));
+            }
+            if (columnPositions.putIfAbsent(column, i) != null) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, column));
+            }
+        }
+        if (!columnPositions.keySet().containsAll(REQUIRED_COLUMNS)) {
+            throw new ParseException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", REQUIRED_COLUMNS)));
+        }
+        columnCount = headerFields.size();
+    }
+
+    /**
+     * Parses the CSV row {@code row} into a new person with the lesson plans and progress in the row.
+     *
+     * @throws ParseException if the row does not have a field for every column, or a field is invalid.
+     */
+    public Person parseRow(String row) throws ParseException {
+        requireNonNull(row);
+        List<String> fields = splitFields(row);
+        if (fields.size() != columnCount) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, columnCount, fields.size()));
+        }
+
+        Name name = ParserUtil.parseName(getField(fields, COLUMN_NAME));
+        String selfContactField = getField(fields, COLUMN_SELF_CONTACT);
+        String nokContactField = getField(fields, COLUMN_NOK_CONTACT);
+        if (selfContactField.isBlank() && nokContactField.isBlank()) {
+            throw new ParseException(AddCommandParser.MESSAGE_MISSING_CONTACT);
+        }
+        Phone selfContact = selfContactField.isBlank() ? null : ParserUtil.parsePhone(selfContactField);
+        Phone nokContact = nokContactField.isBlank() ? null : ParserUtil.parsePhone(nokContactField);
+        if (selfContact != null && selfContact.equals(nokContact)) {
+            throw new ParseException(AddCommandParser.MESSAGE_SAME_CONTACTS);
+        }
+        SubjectLevel subjectLevel = ParserUtil.parseSubjectLevel(getField(fields, COLUMN_SUBJECT_LEVEL));
+        DayTime dayTime = ParserUtil.parseDayTime(getField(fields, COLUMN_DAY_TIME));
+        HourlyRate hourlyRate = ParserUtil.parseHourlyRate(getField(fields, COLUMN_HOURLY_RATE));
+        Address address = ParserUtil.parseAddress(getField(fields, COLUMN_ADDRESS));
+        Set<Tag> tags = ParserUtil.parseTags(getListField(fields, COLUMN_TAGS));
+
+        Person person = new Person(name, selfContact, nokContact, subjectLevel, dayTime, hourlyRate, address, tags);
+        for (String lessonPlan : getListField(fields, COLUMN_LESSON_PLANS)) {
+            LessonPlan plan = ParserUtil.parseLessonPlan(lessonPlan);
+            if (person.hasPlanOnDate(plan.getDate())) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_LESSON_DATE, "lesson plan", plan.getDate()));
+            }
+            person.addLessonPlan(plan);
+        }
+        for (String lessonProgress : getListField(fields, COLUMN_LESSON_PROGRESS)) {
+            LessonProgress progress = ParserUtil.parseLessonProgress(lessonProgress);
+            if (person.hasProgressOnDate(progress.getDate())) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_LESSON_DATE, "lesson progress",
+                        progress.getDate()));
+            }
+            person.addLessonProgress(progress);
+        }
+        return person;
+    }
+
+    /**
+     * Returns the field of {@code column} in {@code fields}, or an empty string if the header has no such column.
+     */
+    private String getField(List<String> fields, String column) {
+        Integer position = columnPositions.get(column);
+        return position == null ? "" : fields.get(position);
+    }
+
+    /**
+     * Returns the non-blank values of the list field of {@code column} in {@code fields}.
+     */
+    private List<String> getListField(List<String> fields, String column) {
+        List<String> values = new ArrayList<>();
+        for (String value : getField(fields, column).split(LIST_SEPARATOR)) {
+            if (!value.isBlank()) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Splits the CSV line {@code line} into its fields, removing the quotes around quoted fields.
+     *
+     * @throws ParseException if a quoted field is not closed or is followed by anything but a comma.
+     */
+    static List<String> splitFields(String line) throws ParseException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i >= line.length()) {
+                        throw new ParseException(MESSAGE_UNCLOSED_QUOTE);
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < line.length() && line.charAt(i) != ',') {
+                    throw new ParseException(MESSAGE_TEXT_AFTER_QUOTE);
+                }
+            } else {
+                int end = line.indexOf(',', i);
+                end = end == -1 ? line.length() : end;
+                field.append(line, i, end);
+                i = end;
+            }
+
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++; // skips the comma
+        }
+    }
+}
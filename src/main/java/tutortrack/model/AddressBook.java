@@ -2,11 +2,20 @@ package tutortrack.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import tutortrack.commons.util.ToStringBuilder;
+import tutortrack.model.person.AnySearchPredicate;
+import tutortrack.model.person.CombinedSearchPredicate;
+import tutortrack.model.person.LessonDayPredicate;
+import tutortrack.model.person.NameContainsKeywordsPredicate;
 import tutortrack.model.person.Person;
+import tutortrack.model.person.SubjectLevelMatchesPredicate;
+import tutortrack.model.person.TagContainsKeywordsPredicate;
 import tutortrack.model.person.UniquePersonList;
 
 /**
@@ -17,6 +26,9 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
 
+    // Number of changes made to this address book, used to tell whether it changed since an earlier point.
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -46,6 +58,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
@@ -73,6 +86,17 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
+    }
+
+    /**
+     * Adds {@code toAdd} to the address book, in order, as a single change to the person list.
+     * No person in {@code toAdd} may already exist in the address book or be the same person as another one in
+     * {@code toAdd}. If one does, no person is added.
+     */
+    public void addPersons(Collection<Person> toAdd) {
+        persons.addAll(toAdd);
+        version++;
     }
 
     /**
@@ -84,6 +108,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
     }
 
     /**
@@ -92,6 +117,48 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
+    }
+
+    /**
+     * Returns the persons in this address book that satisfy {@code predicate}, in the order they are in the list,
+     * except that a day search returns them in timetable order, as {@link LessonDayPredicate#getComparator()} sorts.
+     * Name, tag, subject level and day searches are answered from the search indexes, so only the matching persons
+     * are visited. A combined search visits only the candidates of its most selective indexed criterion, and a
+     * search with alternatives visits only the candidates of each alternative.
+     * Other searches test every person.
+     */
+    public List<Person> findPersons(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            return persons.findByNamePrefixes(((NameContainsKeywordsPredicate) predicate).getKeywords());
+        }
+        if (predicate instanceof TagContainsKeywordsPredicate) {
+            return persons.findByTagNames(((TagContainsKeywordsPredicate) predicate).getKeywords());
+        }
+        if (predicate instanceof SubjectLevelMatchesPredicate) {
+            return persons.findBySubjectLevel(((SubjectLevelMatchesPredicate) predicate).getSubject());
+        }
+        if (predicate instanceof LessonDayPredicate) {
+            return ((LessonDayPredicate) predicate).getDay().map(persons::findByLessonDay).orElse(List.of());
+        }
+        if (predicate instanceof CombinedSearchPredicate) {
+            return persons.findByAll(((CombinedSearchPredicate) predicate).getCriteria());
+        }
+        if (predicate instanceof AnySearchPredicate) {
+            return persons.findByAny(((AnySearchPredicate) predicate).getAlternatives().stream()
+                    .map(CombinedSearchPredicate::getCriteria)
+                    .collect(Collectors.toList()));
+        }
+        return getPersonList().stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the version of this {@code AddressBook}, which increases with every change made to it.
+     * Two calls return the same version only if the address book was not changed in between.
+     */
+    public long getVersion() {
+        return version;
     }
 
     //// util methods
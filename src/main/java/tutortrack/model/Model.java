@@ -1,7 +1,9 @@
 package tutortrack.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -53,6 +55,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the AddressBook, which increases with every change made to it.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -70,6 +77,13 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons, in order, as a single change to the address book, then shows all persons once.
+     * No person in {@code persons} may already exist in the address book or be the same person as another one in
+     * {@code persons}. If one does, no person is added.
+     */
+    void addPersons(Collection<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -77,6 +91,15 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the persons in the address book that satisfy {@code predicate}, in address book order,
+     * or in timetable order for a day search. The returned list is unmodifiable.
+     * Results may be reused for an equal predicate, so {@code predicate} should depend on nothing but the person
+     * it tests.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    List<Person> findPersons(Predicate<Person> predicate);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -92,4 +115,19 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
+    /**
+     * Shows exactly the persons that satisfy {@code predicate} in the filtered person list, and returns them as
+     * {@link #findPersons(Predicate)} does. {@code predicate} is evaluated at most once for each person.
+     * If no person satisfies {@code predicate}, the filtered person list is left unchanged.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    List<Person> showSearchResult(Predicate<Person> predicate);
+
+    /**
+     * Similar to {@link #showSearchResult(Predicate)}, but also sorts the filtered person list using the given
+     * {@code comparator}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    List<Person> showSearchResult(Predicate<Person> predicate, Comparator<Person> comparator);
 }
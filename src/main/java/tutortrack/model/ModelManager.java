@@ -4,7 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static tutortrack.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -25,6 +30,7 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final SortedList<Person> sortedPersons;
     private final FilteredList<Person> filteredPersons;
+    private final SearchResultCache searchResultCache;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -38,6 +44,7 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         sortedPersons = new SortedList<>(filteredPersons);
+        searchResultCache = new SearchResultCache(this.addressBook, SearchResultCache.DEFAULT_CAPACITY);
     }
 
     public ModelManager() {
@@ -91,6 +98,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -108,6 +120,12 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(Collection<Person> persons) {
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -115,6 +133,20 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public List<Person> findPersons(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return searchResultCache.findPersons(predicate);
+    }
+
+    /**
+     * Returns the cache that repeated searches are answered from, whose hit and miss counts show how well it
+     * works.
+     */
+    public SearchResultCache getSearchResultCache() {
+        return searchResultCache;
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -142,6 +174,38 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public List<Person> showSearchResult(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return showMatches(predicate, null);
+    }
+
+    @Override
+    public List<Person> showSearchResult(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        return showMatches(predicate, comparator);
+    }
+
+    /**
+     * Finds the persons that satisfy {@code predicate} and, if there are any, shows them sorted by
+     * {@code comparator}, or unsorted if {@code comparator} is null.
+     */
+    private List<Person> showMatches(Predicate<Person> predicate, Comparator<Person> comparator) {
+        List<Person> matches = searchResultCache.findPersons(predicate);
+        logger.fine("Search result cache: " + searchResultCache);
+        if (matches.isEmpty()) {
+            return matches;
+        }
+
+        SearchResultFilter filter = new SearchResultFilter(matches, predicate);
+        // Unsort first, so that only the matching persons are sorted, and only once
+        sortedPersons.setComparator(null);
+        filteredPersons.setPredicate(filter);
+        filter.markApplied();
+        sortedPersons.setComparator(comparator);
+        return matches;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -159,4 +223,32 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * Filters the person list down to the persons found by a search, recognising them by reference so that the
+     * search predicate is not evaluated for them again.
+     * <p>
+     * While the filter is first applied, every other person is already known not to match. Once it is marked
+     * applied, persons that are added or edited later are tested with the search predicate, so the list keeps
+     * behaving like a list filtered by that predicate.
+     */
+    private static class SearchResultFilter implements Predicate<Person> {
+        private final Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Predicate<Person> predicate;
+        private boolean isApplied;
+
+        SearchResultFilter(List<Person> matches, Predicate<Person> predicate) {
+            this.matches.addAll(matches);
+            this.predicate = predicate;
+        }
+
+        void markApplied() {
+            isApplied = true;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return matches.contains(person) || (isApplied && predicate.test(person));
+        }
+    }
+
 }
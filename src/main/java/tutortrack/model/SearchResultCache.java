@@ -0,0 +1,98 @@
+package tutortrack.model;
+
+import static java.util.Objects.requireNonNull;
+import static tutortrack.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import tutortrack.commons.util.ToStringBuilder;
+import tutortrack.model.person.Person;
+
+/**
+ * Remembers the results of the most recent searches of an {@code AddressBook}, so that repeating a search does
+ * not search the address book again.
+ * <p>
+ * Searches are told apart by their predicates' {@code equals}, so two equal predicates share a result. The
+ * least recently used result is dropped once there are more than the capacity, and every result is dropped as
+ * soon as the {@link AddressBook#getVersion() version} of the address book changes.
+ */
+public class SearchResultCache {
+
+    public static final int DEFAULT_CAPACITY = 16;
+    public static final String MESSAGE_INVALID_CAPACITY = "The capacity of a search result cache must be positive.";
+
+    private final AddressBook addressBook;
+    private final Map<Predicate<Person>, List<Person>> results;
+
+    private long cachedVersion;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates a {@code SearchResultCache} for {@code addressBook} that holds up to {@code capacity} results.
+     */
+    public SearchResultCache(AddressBook addressBook, int capacity) {
+        requireNonNull(addressBook);
+        checkArgument(capacity > 0, MESSAGE_INVALID_CAPACITY);
+        this.addressBook = addressBook;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<Person>, List<Person>> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.cachedVersion = addressBook.getVersion();
+    }
+
+    /**
+     * Returns the persons in the address book that satisfy {@code predicate}, as
+     * {@link AddressBook#findPersons(Predicate)} does, reusing an earlier result if the address book has not
+     * changed since. {@code predicate} should depend on nothing but the person it tests.
+     * The returned list is unmodifiable.
+     */
+    public List<Person> findPersons(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (cachedVersion != addressBook.getVersion()) {
+            results.clear();
+            cachedVersion = addressBook.getVersion();
+        }
+
+        List<Person> result = results.get(predicate);
+        if (result != null) {
+            hitCount++;
+            return result;
+        }
+
+        missCount++;
+        result = Collections.unmodifiableList(addressBook.findPersons(predicate));
+        results.put(predicate, result);
+        return result;
+    }
+
+    /**
+     * Returns the number of searches that were answered with an earlier result.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of searches that had to search the address book.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("hits", hitCount)
+                .add("misses", missCount)
+                .add("size", results.size())
+                .toString();
+    }
+}
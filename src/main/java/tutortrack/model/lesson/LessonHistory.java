@@ -0,0 +1,269 @@
+package tutortrack.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+import static tutortrack.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An immutable history of lesson items with at most one item on each date, ordered by date.
+ * <p>
+ * The items are kept in a balanced binary search tree whose nodes are never changed. Adding or removing an item
+ * builds a new history that copies only the nodes on the path to that item and shares the rest with this one,
+ * so a change takes O(log n) time and space, and keeping earlier versions around costs little.
+ *
+ * @param <T> the type of lesson item in the history.
+ */
+public final class LessonHistory<T extends LessonItem> implements Iterable<T> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The start date of a range cannot be after its end date.";
+
+    private static final LessonHistory<?> EMPTY = new LessonHistory<>(null);
+
+    private final Node<T> root;
+
+    private LessonHistory(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the history without any items.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends LessonItem> LessonHistory<T> empty() {
+        return (LessonHistory<T>) EMPTY;
+    }
+
+    /**
+     * Returns the number of items in this history.
+     */
+    public int size() {
+        return Node.size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns true if this history has an item on {@code date}.
+     */
+    public boolean hasItemOn(LocalDate date) {
+        return getItemOn(date).isPresent();
+    }
+
+    /**
+     * Returns the item on {@code date}, if there is one.
+     */
+    public Optional<T> getItemOn(LocalDate date) {
+        requireNonNull(date);
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = Long.compare(date.toEpochDay(), node.getEpochDay());
+            if (comparison == 0) {
+                return Optional.of(node.item);
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a history with {@code item} added, replacing any item already on its date.
+     */
+    public LessonHistory<T> with(T item) {
+        requireNonNull(item);
+        return new LessonHistory<>(insert(root, item));
+    }
+
+    /**
+     * Returns a history without the item on {@code date}, or this history if there is no such item.
+     */
+    public LessonHistory<T> without(LocalDate date) {
+        requireNonNull(date);
+        Node<T> newRoot = remove(root, date.toEpochDay());
+        return newRoot == root ? this : new LessonHistory<>(newRoot);
+    }
+
+    /**
+     * Returns the items dated from {@code from} to {@code to}, both inclusive, ordered by date.
+     * Only the items in the range and the path to them are visited.
+     *
+     * @throws IllegalArgumentException if {@code from} is after {@code to}.
+     */
+    public List<T> between(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        checkArgument(!from.isAfter(to), MESSAGE_INVALID_RANGE);
+        List<T> items = new ArrayList<>();
+        collect(root, from.toEpochDay(), to.toEpochDay(), items);
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * Returns all items ordered by date, as an unmodifiable list.
+     */
+    public List<T> toList() {
+        List<T> items = new ArrayList<>(size());
+        collect(root, Long.MIN_VALUE, Long.MAX_VALUE, items);
+        return Collections.unmodifiableList(items);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return toList().iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonHistory)) {
+            return false;
+        }
+
+        LessonHistory<?> otherLessonHistory = (LessonHistory<?>) other;
+        return toList().equals(otherLessonHistory.toList());
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    //// tree operations, which never change an existing node
+
+    private static <T extends LessonItem> void collect(Node<T> node, long from, long to, List<T> items) {
+        if (node == null) {
+            return;
+        }
+        long epochDay = node.getEpochDay();
+        if (epochDay > from) {
+            collect(node.left, from, to, items);
+        }
+        if (epochDay >= from && epochDay <= to) {
+            items.add(node.item);
+        }
+        if (epochDay < to) {
+            collect(node.right, from, to, items);
+        }
+    }
+
+    private static <T extends LessonItem> Node<T> insert(Node<T> node, T item) {
+        if (node == null) {
+            return new Node<>(item, null, null);
+        }
+        int comparison = Long.compare(item.getEpochDay(), node.getEpochDay());
+        if (comparison < 0) {
+            return balance(node.item, insert(node.left, item), node.right);
+        }
+        if (comparison > 0) {
+            return balance(node.item, node.left, insert(node.right, item));
+        }
+        return new Node<>(item, node.left, node.right);
+    }
+
+    private static <T extends LessonItem> Node<T> remove(Node<T> node, long epochDay) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = Long.compare(epochDay, node.getEpochDay());
+        if (comparison < 0) {
+            Node<T> left = remove(node.left, epochDay);
+            return left == node.left ? node : balance(node.item, left, node.right);
+        }
+        if (comparison > 0) {
+            Node<T> right = remove(node.right, epochDay);
+            return right == node.right ? node : balance(node.item, node.left, right);
+        }
+
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.item, node.left, removeFirst(node.right));
+    }
+
+    private static <T extends LessonItem> Node<T> removeFirst(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.item, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * Returns a node holding {@code item} over {@code left} and {@code right}, rotated so that the heights of its
+     * subtrees differ by at most one. The heights of {@code left} and {@code right} may differ by at most two.
+     */
+    private static <T extends LessonItem> Node<T> balance(T item, Node<T> left, Node<T> right) {
+        int leftHeight = Node.height(left);
+        int rightHeight = Node.height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (Node.height(left.left) >= Node.height(left.right)) {
+                return new Node<>(left.item, left.left, new Node<>(item, left.right, right));
+            }
+            Node<T> pivot = left.right;
+            return new Node<>(pivot.item, new Node<>(left.item, left.left, pivot.left),
+                    new Node<>(item, pivot.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (Node.height(right.right) >= Node.height(right.left)) {
+                return new Node<>(right.item, new Node<>(item, left, right.left), right.right);
+            }
+            Node<T> pivot = right.left;
+            return new Node<>(pivot.item, new Node<>(item, left, pivot.left),
+                    new Node<>(right.item, pivot.right, right.right));
+        }
+        return new Node<>(item, left, right);
+    }
+
+    /**
+     * A node of the tree, which is never changed once created.
+     */
+    private static final class Node<T extends LessonItem> {
+        private final T item;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int height;
+        private final int size;
+
+        Node(T item, Node<T> left, Node<T> right) {
+            this.item = item;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+
+        long getEpochDay() {
+            return item.getEpochDay();
+        }
+
+        static int height(Node<?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+    }
+}
@@ -7,21 +7,32 @@ import java.util.Objects;
 
 /**
  * Represents a lesson item entry in TutorTrack.
+ * <p>
+ * As a student can have a long lesson history, an item is kept small: its date is stored as a day count rather
+ * than a {@code LocalDate}.
  */
 public abstract class LessonItem {
-    private final LocalDate date;
+    private final long epochDay;
     private final String description;
 
     /**
      * Constructs a {@code LessonItem}.
      */
     protected LessonItem(LocalDate date, String description) {
-        this.date = requireNonNull(date, "Date cannot be null");
+        this.epochDay = requireNonNull(date, "Date cannot be null").toEpochDay();
         this.description = requireNonNull(description, "Description cannot be null");
     }
 
     public LocalDate getDate() {
-        return date;
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the date of this item as a count of days from 1970-01-01, which is cheaper to compare than
+     * {@link #getDate()}.
+     */
+    public long getEpochDay() {
+        return epochDay;
     }
 
     public String getDescription() {
@@ -37,19 +48,19 @@ public abstract class LessonItem {
             return false;
         }
         LessonItem otherItem = (LessonItem) other;
-        return date.equals(otherItem.date)
+        return epochDay == otherItem.epochDay
                 && description.equals(otherItem.description);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(date, description);
+        return Objects.hash(epochDay, description);
     }
 
     @Override
     public String toString() {
         return String.format("Date: %s, %s: %s",
-                date, getTypeName(), description);
+                getDate(), getTypeName(), description);
     }
 
     /**
@@ -0,0 +1,63 @@
+package tutortrack.model.person;
+
+import static tutortrack.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import tutortrack.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} matches at least one of several alternative searches, each of which may combine
+ * several criteria, such as a Monday P6-Math student or a student tagged Exams.
+ */
+public class AnySearchPredicate implements Predicate<Person> {
+    private final List<CombinedSearchPredicate> alternatives;
+
+    /**
+     * Creates a predicate that a person satisfies if it satisfies any one of {@code alternatives}.
+     */
+    public AnySearchPredicate(List<CombinedSearchPredicate> alternatives) {
+        requireAllNonNull(alternatives);
+        this.alternatives = new ArrayList<>(alternatives);
+    }
+
+    /**
+     * Returns the alternative searches, of which a person must satisfy at least one.
+     */
+    public List<CombinedSearchPredicate> getAlternatives() {
+        return Collections.unmodifiableList(alternatives);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return alternatives.stream().anyMatch(alternative -> alternative.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AnySearchPredicate)) {
+            return false;
+        }
+
+        AnySearchPredicate otherAnySearchPredicate = (AnySearchPredicate) other;
+        return alternatives.equals(otherAnySearchPredicate.alternatives);
+    }
+
+    @Override
+    public int hashCode() {
+        return alternatives.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("alternatives", alternatives).toString();
+    }
+}
@@ -0,0 +1,63 @@
+package tutortrack.model.person;
+
+import static tutortrack.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import tutortrack.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} matches every one of several search criteria, such as a lesson day, a subject level
+ * and tags all at once.
+ */
+public class CombinedSearchPredicate implements Predicate<Person> {
+    private final List<Predicate<Person>> criteria;
+
+    /**
+     * Creates a predicate that a person satisfies only if it satisfies every one of {@code criteria}.
+     */
+    public CombinedSearchPredicate(List<Predicate<Person>> criteria) {
+        requireAllNonNull(criteria);
+        this.criteria = new ArrayList<>(criteria);
+    }
+
+    /**
+     * Returns the criteria that a person must all satisfy.
+     */
+    public List<Predicate<Person>> getCriteria() {
+        return Collections.unmodifiableList(criteria);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return criteria.stream().allMatch(criterion -> criterion.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CombinedSearchPredicate)) {
+            return false;
+        }
+
+        CombinedSearchPredicate otherCombinedSearchPredicate = (CombinedSearchPredicate) other;
+        return criteria.equals(otherCombinedSearchPredicate.criteria);
+    }
+
+    @Override
+    public int hashCode() {
+        return criteria.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("criteria", criteria).toString();
+    }
+}
@@ -3,8 +3,15 @@ package tutortrack.model.person;
 import static java.util.Objects.requireNonNull;
 import static tutortrack.commons.util.AppUtil.checkArgument;
 
+import java.time.DayOfWeek;
+import java.util.Comparator;
+
+import tutortrack.commons.util.Interner;
+import tutortrack.commons.util.StringUtil;
+
 /**
  * Represents a Person's tuition day and time in the address book.
+ * The day of the week and the minute of the day are worked out once, when the {@code DayTime} is created.
  * Guarantees: immutable; is valid as declared in {@link #isValidDayTime(String)}
  */
 public class DayTime {
@@ -20,8 +27,22 @@ public class DayTime {
     public static final String VALIDATION_REGEX =
             "^(?i)(Monday|Tuesday|Wednesday|Thursday|Friday|Saturday|Sunday)\\s((0[0-9]|1[0-9]|2[0-3])[0-5][0-9])$";
 
+    /** Orders day-times through the week, from Monday 0000 to Sunday 2359. */
+    public static final Comparator<DayTime> WEEKLY_ORDER =
+            Comparator.comparing(DayTime::getDayOfWeek).thenComparingInt(DayTime::getMinuteOfDay);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    // In the order of DayOfWeek, so that the name at index i is that of DayOfWeek.of(i + 1)
+    private static final String[] DAY_NAMES =
+            {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"};
+    private static final int TIME_LENGTH = 4;
+    private static final Interner<DayTime> INSTANCES = new Interner<>();
+
     public final String value;
 
+    private final DayOfWeek dayOfWeek;
+    private final int minuteOfDay;
+
     /**
      * Constructs a {@code DayTime}.
      *
@@ -31,13 +52,108 @@ public class DayTime {
         requireNonNull(dayTime);
         checkArgument(isValidDayTime(dayTime), MESSAGE_CONSTRAINTS);
         value = dayTime;
+        dayOfWeek = DayOfWeek.of(matchDay(dayTime) + 1);
+        minuteOfDay = parseMinuteOfDay(dayTime, dayTime.length() - TIME_LENGTH);
+    }
+
+    /**
+     * Returns a {@code DayTime} of {@code dayTime}, which is the same instance as any equal day-time returned
+     * earlier that is still in use.
+     *
+     * @param dayTime A valid day-time string.
+     */
+    public static DayTime of(String dayTime) {
+        return INSTANCES.intern(new DayTime(dayTime));
     }
 
     /**
      * Returns true if a given string is a valid day-time.
      */
     public static boolean isValidDayTime(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int dayLength = matchDayNameLength(test);
+        int timeStart = dayLength + 1;
+        return dayLength > 0
+                && test.length() == timeStart + TIME_LENGTH
+                && StringUtil.isRegexWhitespace(test.charAt(dayLength))
+                && isValidTime(test, timeStart);
+    }
+
+    /**
+     * Returns true if a given string is the full name of a day of the week, in any case.
+     */
+    public static boolean isValidDayName(String test) {
+        int dayLength = matchDayNameLength(test);
+        return dayLength > 0 && dayLength == test.length();
+    }
+
+    /**
+     * Returns the index in {@code DAY_NAMES} of the day name, in any case, that {@code test} starts with,
+     * or -1 if there is none.
+     */
+    private static int matchDay(String test) {
+        for (int i = 0; i < DAY_NAMES.length; i++) {
+            if (StringUtil.regionMatchesIgnoreAsciiCase(test, 0, DAY_NAMES[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the length of the day name, in any case, that {@code test} starts with, or 0 if there is none.
+     */
+    private static int matchDayNameLength(String test) {
+        int day = matchDay(test);
+        return day < 0 ? 0 : DAY_NAMES[day].length();
+    }
+
+    /**
+     * Returns true if {@code test} has a 24-hour time in HHMM form at {@code start}.
+     */
+    private static boolean isValidTime(String test, int start) {
+        for (int i = start; i < start + TIME_LENGTH; i++) {
+            if (!StringUtil.isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return parseTwoDigits(test, start) < 24 && parseTwoDigits(test, start + 2) < 60;
+    }
+
+    /**
+     * Returns the number of minutes after midnight of the valid HHMM time in {@code dayTime} at {@code start}.
+     */
+    private static int parseMinuteOfDay(String dayTime, int start) {
+        return parseTwoDigits(dayTime, start) * 60 + parseTwoDigits(dayTime, start + 2);
+    }
+
+    private static int parseTwoDigits(String s, int start) {
+        return (s.charAt(start) - '0') * 10 + (s.charAt(start + 1) - '0');
+    }
+
+    /**
+     * Returns a {@code DayTime} on {@code day} at {@code minuteOfDay} minutes after midnight,
+     * written in the usual form, e.g. 'Monday 0930'. Equal day-times share one instance, as with
+     * {@link #of(String)}.
+     */
+    public static DayTime of(DayOfWeek day, int minuteOfDay) {
+        requireNonNull(day);
+        checkArgument(minuteOfDay >= 0 && minuteOfDay < MINUTES_PER_DAY, MESSAGE_CONSTRAINTS);
+        return of(String.format("%s %02d%02d", DAY_NAMES[day.getValue() - 1], minuteOfDay / 60,
+                minuteOfDay % 60));
+    }
+
+    /**
+     * Returns the day of the week of this day-time.
+     */
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    /**
+     * Returns the time of this day-time as the number of minutes after midnight.
+     */
+    public int getMinuteOfDay() {
+        return minuteOfDay;
     }
 
     @Override
@@ -3,8 +3,15 @@ package tutortrack.model.person;
 import static java.util.Objects.requireNonNull;
 import static tutortrack.commons.util.AppUtil.checkArgument;
 
+import java.util.Comparator;
+
+import tutortrack.commons.util.Interner;
+import tutortrack.commons.util.StringUtil;
+import tutortrack.commons.util.ValidationResult;
+
 /**
  * Represents a Person's tuition hourly rate in the address book.
+ * The amount in cents is worked out once, when the {@code HourlyRate} is created.
  * Guarantees: immutable; is valid as declared in {@link #isValidHourlyRate(String)}
  */
 public class HourlyRate {
@@ -22,8 +29,20 @@ public class HourlyRate {
     // $ - end of string
     public static final String VALIDATION_REGEX = "^\\$\\d+(\\.\\d{2})?$";
 
+    /** Orders hourly rates by amount, lowest first. */
+    public static final Comparator<HourlyRate> AMOUNT_ORDER = Comparator.comparingLong(HourlyRate::getCents);
+
+    private static final int DECIMAL_PLACES = 2;
+    private static final ValidationResult RESULT_MISSING_DOLLAR = ValidationResult.invalid(MESSAGE_MISSING_DOLLAR);
+    private static final ValidationResult RESULT_TOO_MANY_DECIMALS =
+            ValidationResult.invalid(MESSAGE_TOO_MANY_DECIMALS);
+    private static final ValidationResult RESULT_INVALID = ValidationResult.invalid(MESSAGE_CONSTRAINTS);
+    private static final Interner<HourlyRate> INSTANCES = new Interner<>();
+
     public final String value;
 
+    private final long cents;
+
     /**
      * Constructs a {@code HourlyRate}.
      *
@@ -33,13 +52,106 @@ public class HourlyRate {
         requireNonNull(hourlyRate);
         checkArgument(isValidHourlyRate(hourlyRate), MESSAGE_CONSTRAINTS);
         value = hourlyRate;
+        cents = toCents(hourlyRate);
+    }
+
+    /**
+     * Returns a {@code HourlyRate} of {@code hourlyRate}, which is the same instance as any equal hourly rate
+     * returned earlier that is still in use.
+     *
+     * @param hourlyRate A valid hourlyRate string.
+     */
+    public static HourlyRate of(String hourlyRate) {
+        return INSTANCES.intern(new HourlyRate(hourlyRate));
     }
 
     /**
      * Returns true if a given string is a valid cost.
      */
     public static boolean isValidHourlyRate(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int decimalPlaces = countDecimalPlaces(test);
+        return (decimalPlaces == 0 || decimalPlaces == DECIMAL_PLACES) && toCents(test) >= 0;
+    }
+
+    /**
+     * Validates the given hourly rate, checking in turn whether it is missing the dollar sign, has the wrong
+     * number of decimal places, or is otherwise not a valid amount.
+     */
+    public static ValidationResult validate(String test) {
+        requireNonNull(test);
+        if (isMissingDollar(test)) {
+            return RESULT_MISSING_DOLLAR;
+        }
+        int decimalPlaces = countDecimalPlaces(test);
+        if (decimalPlaces == 0 || decimalPlaces == DECIMAL_PLACES) {
+            return toCents(test) >= 0 ? ValidationResult.VALID : RESULT_INVALID;
+        }
+        return decimalPlaces > 0 ? RESULT_TOO_MANY_DECIMALS : RESULT_INVALID;
+    }
+
+    /**
+     * Returns the amount in cents of {@code rate}, which must be a dollar sign followed by digits and optionally
+     * a decimal point and two digits, or -1 if the amount is too large to be held in cents.
+     */
+    private static long toCents(String rate) {
+        int point = rate.indexOf('.');
+        int dollarsEnd = point < 0 ? rate.length() : point;
+        try {
+            long dollars = 0;
+            for (int i = 1; i < dollarsEnd; i++) {
+                dollars = Math.addExact(Math.multiplyExact(dollars, 10), rate.charAt(i) - '0');
+            }
+            long remainder = point < 0 ? 0 : (rate.charAt(point + 1) - '0') * 10 + (rate.charAt(point + 2) - '0');
+            return Math.addExact(Math.multiplyExact(dollars, 100), remainder);
+        } catch (ArithmeticException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the number of decimal places of {@code test} if it is a dollar sign followed by one or more digits and
+     * an optional decimal point and digits, or -1 if it is not. A decimal point without digits after it gives -1.
+     */
+    private static int countDecimalPlaces(String test) {
+        if (!test.startsWith("$")) {
+            return -1;
+        }
+        int i = 1;
+        while (i < test.length() && StringUtil.isAsciiDigit(test.charAt(i))) {
+            i++;
+        }
+        if (i == 1) {
+            return -1;
+        }
+        if (i == test.length()) {
+            return 0;
+        }
+        if (test.charAt(i) != '.') {
+            return -1;
+        }
+        int point = i++;
+        while (i < test.length() && StringUtil.isAsciiDigit(test.charAt(i))) {
+            i++;
+        }
+        return i == test.length() && i > point + 1 ? i - point - 1 : -1;
+    }
+
+    /**
+     * Returns a {@code HourlyRate} of {@code cents} cents, written with cents only if there are any,
+     * e.g. '$50' or '$12.50'. Equal hourly rates share one instance, as with {@link #of(String)}.
+     */
+    public static HourlyRate ofCents(long cents) {
+        checkArgument(cents >= 0, MESSAGE_CONSTRAINTS);
+        long dollars = cents / 100;
+        long remainder = cents % 100;
+        return of(remainder == 0 ? "$" + dollars : String.format("$%d.%02d", dollars, remainder));
+    }
+
+    /**
+     * Returns this hourly rate in cents.
+     */
+    public long getCents() {
+        return cents;
     }
 
     /** Returns true if the given cost string has exactly 1 or more than 2 decimal places. */
@@ -47,7 +159,8 @@ public class HourlyRate {
         if (test == null) {
             return false;
         }
-        return test.matches("^\\$\\d+\\.\\d{1}$") || test.matches("^\\$\\d+\\.\\d{3,}$");
+        int decimalPlaces = countDecimalPlaces(test);
+        return decimalPlaces > 0 && decimalPlaces != DECIMAL_PLACES;
     }
 
     /** Returns true if the given cost string is missing the leading dollar sign. */
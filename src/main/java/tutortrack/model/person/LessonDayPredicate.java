@@ -1,6 +1,9 @@
 package tutortrack.model.person;
 
+import java.time.DayOfWeek;
 import java.util.Comparator;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import tutortrack.commons.util.ToStringBuilder;
@@ -10,6 +13,7 @@ import tutortrack.commons.util.ToStringBuilder;
  */
 public class LessonDayPredicate implements Predicate<Person> {
     private final String dayKeyword;
+    private final Optional<DayOfWeek> day;
 
     /**
      * Constructs a LessonDayPredicate with the specified day keyword.
@@ -20,6 +24,23 @@ public class LessonDayPredicate implements Predicate<Person> {
         assert dayKeyword != null : "Day keyword cannot be null";
         assert !dayKeyword.trim().isEmpty() : "Day keyword cannot be empty";
         this.dayKeyword = dayKeyword;
+        this.day = parseDay(dayKeyword);
+    }
+
+    private static Optional<DayOfWeek> parseDay(String dayKeyword) {
+        try {
+            return Optional.of(DayOfWeek.valueOf(dayKeyword.toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the day of the week named by the day keyword, or an empty {@code Optional} if it does not name one,
+     * in which case no person matches.
+     */
+    public Optional<DayOfWeek> getDay() {
+        return day;
     }
 
     @Override
@@ -27,11 +48,7 @@ public class LessonDayPredicate implements Predicate<Person> {
         assert person != null : "Person cannot be null";
         assert person.getDayTime() != null : "Person's dayTime cannot be null";
 
-        String dayTime = person.getDayTime().value;
-        // Extract day from "Monday 1200" format
-        String day = dayTime.split("\\s+")[0];
-
-        return day.equalsIgnoreCase(dayKeyword);
+        return day.isPresent() && person.getDayTime().getDayOfWeek() == day.get();
     }
 
     /**
@@ -40,15 +57,8 @@ public class LessonDayPredicate implements Predicate<Person> {
      */
     public Comparator<Person> getComparator() {
         return (person1, person2) -> {
-            String firstDayTime = person1.getDayTime().value;
-            String secondDayTime = person2.getDayTime().value;
-
-            // extract time part of the dayTime string
-            String time1 = firstDayTime.split("\\s+")[1];
-            String time2 = secondDayTime.split("\\s+")[1];
-
-            // compare times numerically
-            int timeComparison = Integer.compare(Integer.parseInt(time1), Integer.parseInt(time2));
+            int timeComparison = Integer.compare(person1.getDayTime().getMinuteOfDay(),
+                    person2.getDayTime().getMinuteOfDay());
 
             if (timeComparison != 0) {
                 return timeComparison;
@@ -73,6 +83,11 @@ public class LessonDayPredicate implements Predicate<Person> {
         return dayKeyword.equals(otherLessonDayPredicate.dayKeyword);
     }
 
+    @Override
+    public int hashCode() {
+        return dayKeyword.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("dayKeyword", dayKeyword).toString();
@@ -3,6 +3,9 @@ package tutortrack.model.person;
 import static java.util.Objects.requireNonNull;
 import static tutortrack.commons.util.AppUtil.checkArgument;
 
+import tutortrack.commons.util.StringUtil;
+import tutortrack.commons.util.ValidationResult;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -24,6 +27,11 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final int MIN_LENGTH = 2;
+    private static final ValidationResult RESULT_BLANK = ValidationResult.invalid(MESSAGE_BLANK);
+    private static final ValidationResult RESULT_TOO_SHORT = ValidationResult.invalid(MESSAGE_TOO_SHORT);
+    private static final ValidationResult RESULT_INVALID_CHARS = ValidationResult.invalid(MESSAGE_INVALID_CHARS);
+
     public final String fullName;
 
     /**
@@ -51,7 +59,7 @@ public class Name {
         if (test == null) {
             return true;
         }
-        return test.trim().length() < 2;
+        return test.trim().length() < MIN_LENGTH;
     }
 
     /**
@@ -61,14 +69,38 @@ public class Name {
         if (test == null) {
             return true;
         }
-        return !test.matches(VALIDATION_REGEX);
+        return !isValidName(test);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || !StringUtil.isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !StringUtil.isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validates the given name, checking in turn whether it is blank, too short, or has invalid characters.
+     */
+    public static ValidationResult validate(String test) {
+        requireNonNull(test);
+        int trimmedLength = StringUtil.trimmedLength(test);
+        if (trimmedLength == 0) {
+            return RESULT_BLANK;
+        }
+        if (trimmedLength < MIN_LENGTH) {
+            return RESULT_TOO_SHORT;
+        }
+        return isValidName(test) ? ValidationResult.VALID : RESULT_INVALID_CHARS;
     }
 
 
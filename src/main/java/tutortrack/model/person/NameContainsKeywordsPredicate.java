@@ -1,8 +1,12 @@
 package tutortrack.model.person;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import tutortrack.commons.util.StringUtil;
 import tutortrack.commons.util.ToStringBuilder;
@@ -17,71 +21,32 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the keywords that names are matched against.
+     */
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
     @Override
     public boolean test(Person person) {
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsPrefixIgnoreCase(person.getName().fullName, keyword));
     }
 
-    /**
-     * Returns the match rank for a person.
-     * Lower rank means higher priority in results.
-     * Rank 1: First token matches
-     * Rank 2: Other token matches
-     * Rank 3: No match (defensively handle this case for safety)
-     */
-    private int getRanking(Person person) {
-        String fullName = person.getName().fullName;
-        String[] tokens = fullName.split("\\s+");
-
-        if (tokens.length == 0) {
-            return 3;
-        }
-
-        // Check if first token matches any keyword
-        String firstToken = tokens[0];
-        for (String keyword : keywords) {
-            String firstTokenLowerCase = firstToken.toLowerCase();
-            String keywordLowerCase = keyword.toLowerCase();
-
-            if (firstTokenLowerCase.startsWith(keywordLowerCase)) {
-                return 1;
-            }
-        }
-
-        // Check if any other token matches
-        for (int i = 1; i < tokens.length; i++) {
-            for (String keyword : keywords) {
-                if (tokens[i].toLowerCase().startsWith(keyword.toLowerCase())) {
-                    return 2;
-                }
-            }
-        }
-
-        // No match found
-        return 3;
-    }
-
     /**
      * Returns a comparator that ranks persons by match quality.
      * Ranking from highest to lowest priority:
      * 1. First token prefix match
      * 2. Any other token prefix match
      * 3. Alphabetical by display name (tiebreaker)
+     * <p>
+     * The comparator works out the rank and sort key of each person the first time it sees that person and
+     * reuses them afterwards. It holds the persons weakly, so a comparator left in place after a search does not
+     * keep persons that were since edited or deleted.
      */
     public Comparator<Person> getComparator() {
-        return (person1, person2) -> {
-            int rank1 = getRanking(person1);
-            int rank2 = getRanking(person2);
-
-            if (rank1 != rank2) {
-                // Lower rank means higher priority
-                return Integer.compare(rank1, rank2);
-            }
-
-            // Tiebreaker done through alphabetical ordering by name
-            return person1.getName().fullName.compareToIgnoreCase(person2.getName().fullName);
-        };
+        return new RankingComparator(keywords);
     }
 
     @Override
@@ -99,8 +64,100 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
     }
+
+    /**
+     * Compares persons by their {@code RankingKey}, which is computed once for each person it is asked about.
+     */
+    private static class RankingComparator implements Comparator<Person> {
+        private final List<String> foldedKeywords;
+        // Equal persons have equal names and so equal keys. Entries go once their person is no longer used.
+        private final Map<Person, RankingKey> keys = new WeakHashMap<>();
+
+        RankingComparator(List<String> keywords) {
+            foldedKeywords = keywords.stream().map(StringUtil::foldCase).collect(Collectors.toList());
+        }
+
+        @Override
+        public int compare(Person person1, Person person2) {
+            return getKey(person1).compareTo(getKey(person2));
+        }
+
+        private RankingKey getKey(Person person) {
+            return keys.computeIfAbsent(person,
+                    unused -> new RankingKey(getRanking(person), StringUtil.foldCase(person.getName().fullName)));
+        }
+
+        /**
+         * Returns the match rank for a person.
+         * Lower rank means higher priority in results.
+         * Rank 1: First token matches
+         * Rank 2: Other token matches
+         * Rank 3: No match (defensively handle this case for safety)
+         */
+        private int getRanking(Person person) {
+            String[] tokens = StringUtil.foldCase(person.getName().fullName).split("\\s+");
+
+            if (tokens.length == 0) {
+                return 3;
+            }
+
+            // Check if first token matches any keyword
+            if (startsWithAnyKeyword(tokens[0])) {
+                return 1;
+            }
+
+            // Check if any other token matches
+            for (int i = 1; i < tokens.length; i++) {
+                if (startsWithAnyKeyword(tokens[i])) {
+                    return 2;
+                }
+            }
+
+            // No match found
+            return 3;
+        }
+
+        private boolean startsWithAnyKeyword(String foldedToken) {
+            for (String keyword : foldedKeywords) {
+                if (foldedToken.startsWith(keyword)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The match rank of a person together with its case-folded name, which orders persons the same way as
+     * comparing the rank and then the names ignoring case.
+     */
+    private static class RankingKey implements Comparable<RankingKey> {
+        private final int rank;
+        private final String foldedName;
+
+        RankingKey(int rank, String foldedName) {
+            this.rank = rank;
+            this.foldedName = foldedName;
+        }
+
+        @Override
+        public int compareTo(RankingKey other) {
+            if (rank != other.rank) {
+                // Lower rank means higher priority
+                return Integer.compare(rank, other.rank);
+            }
+
+            // Tiebreaker done through alphabetical ordering by name
+            return foldedName.compareTo(other.foldedName);
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package tutortrack.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import tutortrack.commons.util.StringUtil;
+
+/**
+ * An index of persons by the words in their names, which finds the persons with a name word that starts with a
+ * given prefix, ignoring case.
+ * <p>
+ * The name words are case-folded with {@link StringUtil#foldCase(String)}, as in the other search indexes, and
+ * kept in sorted order, so the words that start with a prefix are next to each other and a lookup only visits
+ * those words. Persons are compared by reference, as the index holds the exact {@code Person} objects that are in
+ * the address book.
+ */
+public class NamePrefixIndex {
+
+    private final NavigableMap<String, Set<Person>> personsByWord = new TreeMap<>();
+
+    /**
+     * Adds {@code person} under each word of its name.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : getWords(person.getName())) {
+            personsByWord.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must have been added earlier, from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : getWords(person.getName())) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        personsByWord.clear();
+    }
+
+    /**
+     * Returns the persons with a name word that starts with any of {@code prefixes}, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> findByPrefixes(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String prefix : prefixes) {
+            String foldedPrefix = StringUtil.foldCase(prefix.trim());
+            for (Map.Entry<String, Set<Person>> entry : personsByWord.tailMap(foldedPrefix, true).entrySet()) {
+                if (!entry.getKey().startsWith(foldedPrefix)) {
+                    break;
+                }
+                matches.addAll(entry.getValue());
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the distinct case-folded words of {@code name}.
+     */
+    private static Set<String> getWords(Name name) {
+        String foldedName = StringUtil.foldCase(name.fullName);
+        Set<String> words = new HashSet<>();
+        int start = 0;
+        while (start < foldedName.length()) {
+            int end = foldedName.indexOf(' ', start);
+            if (end < 0) {
+                end = foldedName.length();
+            }
+            if (end > start) {
+                words.add(foldedName.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return words;
+    }
+}
@@ -1,16 +1,21 @@
 package tutortrack.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static tutortrack.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import tutortrack.commons.util.ToStringBuilder;
+import tutortrack.model.lesson.LessonHistory;
 import tutortrack.model.lesson.LessonPlan;
 import tutortrack.model.lesson.LessonProgress;
 import tutortrack.model.tag.Tag;
@@ -21,6 +26,9 @@ import tutortrack.model.tag.Tag;
  */
 public class Person {
 
+    // Surrogate id, stable across edits and persisted with the person
+    private final UUID id;
+
     // Identity fields
     private final Name name;
 
@@ -34,20 +42,38 @@ public class Person {
     private final HourlyRate hourlyRate;
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
-    private final ObservableList<LessonProgress> lessonProgressList = FXCollections.observableArrayList();
-    private final ObservableList<LessonPlan> lessonPlanList = FXCollections.observableArrayList();
+
+    // Worked out once, as the fields they depend on never change and they are needed on every lookup
+    private final String identityKey;
+    private final int hashCode;
+    // Lesson history is keyed by date, as a person has at most one progress entry and one plan on each date.
+    // It cannot be modified, so copies of this person share it and a change replaces only what it touches.
+    private LessonHistory<LessonProgress> lessonProgress = LessonHistory.empty();
+    private LessonHistory<LessonPlan> lessonPlans = LessonHistory.empty();
 
     /**
      * All other fields and at least one of contacts must be present and not null.
+     * The person is given a new randomly generated id.
      */
     public Person(Name name, Phone selfContact, Phone nokContact,
                   SubjectLevel subjectLevel, DayTime dayTime, HourlyRate hourlyRate,
                   Address address, Set<Tag> tags) {
-        requireAllNonNull(name, subjectLevel, dayTime, hourlyRate, address, tags);
+        this(UUID.randomUUID(), name, selfContact, nokContact, subjectLevel, dayTime, hourlyRate, address, tags);
+    }
+
+    /**
+     * Creates a person with the given {@code id}, e.g. when loading a saved person or editing an existing one.
+     * All other fields and at least one of contacts must be present and not null.
+     */
+    public Person(UUID id, Name name, Phone selfContact, Phone nokContact,
+                  SubjectLevel subjectLevel, DayTime dayTime, HourlyRate hourlyRate,
+                  Address address, Set<Tag> tags) {
+        requireAllNonNull(id, name, subjectLevel, dayTime, hourlyRate, address, tags);
 
         if (selfContact == null && nokContact == null) {
             throw new IllegalArgumentException("At least one of the contact should be provided.");
         }
+        this.id = id;
         this.name = name;
         this.selfContact = selfContact;
         this.nokContact = nokContact;
@@ -56,6 +82,15 @@ public class Person {
         this.hourlyRate = hourlyRate;
         this.address = address;
         this.tags.addAll(tags);
+        this.identityKey = selfContact == null ? null : toIdentityKey(name, selfContact);
+        this.hashCode = Objects.hash(name, selfContact, nokContact, subjectLevel, dayTime, address, this.tags);
+    }
+
+    /**
+     * Returns the surrogate id of this person. The id is not part of {@link #equals(Object)}.
+     */
+    public UUID getId() {
+        return id;
     }
 
     public Name getName() {
@@ -94,20 +129,74 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Adds the lesson progress {@code lp}, replacing any lesson progress already on its date.
+     */
     public void addLessonProgress(LessonProgress lp) {
-        lessonProgressList.add(lp);
+        requireNonNull(lp);
+        lessonProgress = lessonProgress.with(lp);
     }
 
+    /**
+     * Adds the lesson plan {@code ll}, replacing any lesson plan already on its date.
+     */
     public void addLessonPlan(LessonPlan ll) {
-        lessonPlanList.add(ll);
+        requireNonNull(ll);
+        lessonPlans = lessonPlans.with(ll);
+    }
+
+    /**
+     * Returns the lesson progress entries ordered by date.
+     */
+    public LessonHistory<LessonProgress> getLessonProgressHistory() {
+        return lessonProgress;
     }
 
+    /**
+     * Returns the lesson plans ordered by date.
+     */
+    public LessonHistory<LessonPlan> getLessonPlanHistory() {
+        return lessonPlans;
+    }
+
+    /**
+     * Returns the lesson progress entries ordered by date, as an unmodifiable list for the UI to bind to.
+     * The list is built on each call, so callers that only read the entries should use
+     * {@link #getLessonProgressHistory()}.
+     */
     public ObservableList<LessonProgress> getLessonProgressList() {
-        return lessonProgressList;
+        return FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(lessonProgress.toList()));
     }
 
+    /**
+     * Returns the lesson plans ordered by date, as an unmodifiable list for the UI to bind to.
+     * The list is built on each call, so callers that only read the plans should use
+     * {@link #getLessonPlanHistory()}.
+     */
     public ObservableList<LessonPlan> getLessonPlanList() {
-        return lessonPlanList;
+        return FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(lessonPlans.toList()));
+    }
+
+    /**
+     * Returns the lesson progress entries dated from {@code from} to {@code to}, both inclusive, ordered by date.
+     * The returned list cannot be modified.
+     * @throws IllegalArgumentException if {@code from} is after {@code to}.
+     */
+    public List<LessonProgress> getLessonProgressBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return lessonProgress.between(from, to);
+    }
+
+    /**
+     * Returns the lesson plans dated from {@code from} to {@code to}, both inclusive, ordered by date.
+     * The returned list cannot be modified.
+     * @throws IllegalArgumentException if {@code from} is after {@code to}.
+     */
+    public List<LessonPlan> getLessonPlansBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return lessonPlans.between(from, to);
     }
 
     /**
@@ -117,8 +206,7 @@ public class Person {
      * @return {@code true} if there is a lesson progress with the same date, {@code false} otherwise
      */
     public boolean hasProgressOnDate(LocalDate date) {
-        return lessonProgressList.stream()
-                .anyMatch(lessonProgress -> lessonProgress.getDate().equals(date));
+        return lessonProgress.hasItemOn(date);
     }
 
     /**
@@ -128,8 +216,7 @@ public class Person {
      * @return {@code true} if there is a lesson plan with the same date, {@code false} otherwise
      */
     public boolean hasPlanOnDate(LocalDate date) {
-        return lessonPlanList.stream()
-                .anyMatch(lessonPlan -> lessonPlan.getDate().equals(date));
+        return lessonPlans.hasItemOn(date);
     }
 
     /**
@@ -139,7 +226,10 @@ public class Person {
      * @return True if a lesson progress was removed, false otherwise.
      */
     public boolean removeLessonProgressByDate(LocalDate date) {
-        return lessonProgressList.removeIf(lessonProgress -> lessonProgress.getDate().equals(date));
+        LessonHistory<LessonProgress> updated = lessonProgress.without(date);
+        boolean isRemoved = updated != lessonProgress;
+        lessonProgress = updated;
+        return isRemoved;
     }
 
     /**
@@ -155,20 +245,27 @@ public class Person {
             return false;
         }
 
-        // Consider persons the same if they share the same name (case-insensitive, trimmed)
-        // and the same self contact (NOK contact is ignored for duplication checks).
-        String thisName = this.getName() == null ? null : this.getName().toString().trim();
-        String otherName = otherPerson.getName() == null ? null : otherPerson.getName().toString().trim();
-
-        Phone thisSelf = this.getSelfContact();
-        Phone otherSelf = otherPerson.getSelfContact();
-
-        boolean sameName = thisName != null && otherName != null && thisName.equalsIgnoreCase(otherName);
-        boolean sameSelfContact = thisSelf != null && otherSelf != null && thisSelf.equals(otherSelf);
+        return identityKey != null && identityKey.equals(otherPerson.identityKey);
+    }
 
-        return sameName && sameSelfContact;
+    /**
+     * Returns the key that identifies this person for duplicate checks, or {@code null} if this person has no
+     * self contact. Two persons are the same person if and only if they are the same object or both have
+     * non-null, equal identity keys.
+     *
+     * Persons are considered the same if they share the same name (case-insensitive, trimmed)
+     * and the same self contact (NOK contact is ignored for duplication checks).
+     * The key is worked out when the person is created, so this does not allocate.
+     */
+    public String getIdentityKey() {
+        return identityKey;
     }
 
+    private static String toIdentityKey(Name name, Phone selfContact) {
+        // Names only contain ASCII alphanumerics and spaces, so folding to lower case is equivalent to
+        // comparing with equalsIgnoreCase. Phone numbers are digits only, so '|' cannot be ambiguous.
+        return name.fullName.trim().toLowerCase(Locale.ROOT) + "|" + selfContact.value;
+    }
 
     /**
      * Removes a lesson plan entry on the specified date if it exists.
@@ -177,7 +274,20 @@ public class Person {
      * @return {@code true} if a lesson plan was removed, {@code false} otherwise
      */
     public boolean removeLessonPlanByDate(LocalDate date) {
-        return lessonPlanList.removeIf(lessonPlan -> lessonPlan.getDate().equals(date));
+        LessonHistory<LessonPlan> updated = lessonPlans.without(date);
+        boolean isRemoved = updated != lessonPlans;
+        lessonPlans = updated;
+        return isRemoved;
+    }
+
+    /**
+     * Replaces the lesson plans and progress of this person with those of {@code source}.
+     * The lesson history is shared rather than copied, so this takes constant time.
+     */
+    public void takeLessonHistoryFrom(Person source) {
+        requireNonNull(source);
+        lessonProgress = source.lessonProgress;
+        lessonPlans = source.lessonPlans;
     }
 
     /**
@@ -219,13 +329,54 @@ public class Person {
     }
 
     /**
-     * Creates a deep copy of this person with all lesson plans and progress.
+     * Creates a copy of this person with the given lesson progress added.
+     * This person is left unchanged, so a saved or displayed copy of it stays accurate.
+     *
+     * @param lessonProgress The lesson progress to add.
+     * @return A new Person object with the progress entry added.
+     */
+    public Person withLessonProgressAdded(LessonProgress lessonProgress) {
+        Person copy = createCopy();
+        copy.addLessonProgress(lessonProgress);
+        return copy;
+    }
+
+    /**
+     * Creates a copy of this person with the given lesson plan added.
+     * This person is left unchanged, so a saved or displayed copy of it stays accurate.
+     *
+     * @param lessonPlan The lesson plan to add.
+     * @return A new Person object with the plan entry added.
+     */
+    public Person withLessonPlanAdded(LessonPlan lessonPlan) {
+        Person copy = createCopy();
+        copy.addLessonPlan(lessonPlan);
+        return copy;
+    }
+
+    /**
+     * Creates a copy of this person that has the given id instead.
+     *
+     * @param id The id of the copy.
+     * @return A new Person object with identical data and the given id.
+     */
+    public Person withId(UUID id) {
+        return createCopy(id);
+    }
+
+    /**
+     * Creates a copy of this person that shares its lesson plans and progress.
      * Private helper method to avoid code duplication.
      *
      * @return A new Person object with identical data.
      */
     private Person createCopy() {
+        return createCopy(this.id);
+    }
+
+    private Person createCopy(UUID id) {
         Person copy = new Person(
+                id,
                 this.name,
                 this.selfContact,
                 this.nokContact,
@@ -236,9 +387,7 @@ public class Person {
                 new HashSet<>(this.tags)
         );
 
-        // Copy lesson data without exposing internal collections
-        this.lessonPlanList.forEach(copy::addLessonPlan);
-        this.lessonProgressList.forEach(copy::addLessonProgress);
+        copy.takeLessonHistoryFrom(this);
 
         return copy;
     }
@@ -267,9 +416,13 @@ public class Person {
                        && tags.equals(otherPerson.tags);
     }
 
+    /**
+     * Returns the hash code worked out when this person was created from the fields compared by
+     * {@link #equals(Object)}.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(name, selfContact, nokContact, subjectLevel, dayTime, hourlyRate, address, tags);
+        return hashCode;
     }
 
     @Override
@@ -283,8 +436,8 @@ public class Person {
                 .add("hourlyRate", hourlyRate)
                 .add("address", address)
                 .add("tags", tags)
-                .add("lesson plan", lessonPlanList)
-                .add("lesson progress", lessonProgressList)
+                .add("lesson plan", lessonPlans)
+                .add("lesson progress", lessonProgress)
                 .toString();
     }
 }
@@ -3,6 +3,9 @@ package tutortrack.model.person;
 import static java.util.Objects.requireNonNull;
 import static tutortrack.commons.util.AppUtil.checkArgument;
 
+import tutortrack.commons.util.StringUtil;
+import tutortrack.commons.util.ValidationResult;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -18,6 +21,12 @@ public class Phone {
     public static final String MESSAGE_INVALID_CHARS = "Phone numbers should only contain digits.";
     public static final String MESSAGE_TOO_SHORT = "Phone number is too short; it should be at least 3 digits.";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+
+    private static final int MIN_LENGTH = 3;
+    private static final ValidationResult RESULT_BLANK = ValidationResult.invalid(MESSAGE_BLANK);
+    private static final ValidationResult RESULT_INVALID_CHARS = ValidationResult.invalid(MESSAGE_INVALID_CHARS);
+    private static final ValidationResult RESULT_TOO_SHORT = ValidationResult.invalid(MESSAGE_TOO_SHORT);
+
     public final String value;
 
     /**
@@ -35,7 +44,35 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.length() >= MIN_LENGTH && isAllDigits(test);
+    }
+
+    /**
+     * Validates the given phone number, checking in turn whether it is blank, has invalid characters, or is too
+     * short.
+     */
+    public static ValidationResult validate(String test) {
+        requireNonNull(test);
+        int trimmedLength = StringUtil.trimmedLength(test);
+        if (trimmedLength == 0) {
+            return RESULT_BLANK;
+        }
+        if (!isAllDigits(test)) {
+            return RESULT_INVALID_CHARS;
+        }
+        return trimmedLength < MIN_LENGTH ? RESULT_TOO_SHORT : ValidationResult.VALID;
+    }
+
+    private static boolean isAllDigits(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!StringUtil.isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /** Returns true if the given phone string is blank (null or empty after trimming). */
@@ -48,7 +85,7 @@ public class Phone {
         if (test == null) {
             return true;
         }
-        return !test.matches("\\d+");
+        return !isAllDigits(test);
     }
 
     /** Returns true if the given phone string is shorter than the minimum length. */
@@ -56,7 +93,7 @@ public class Phone {
         if (test == null) {
             return true;
         }
-        return test.trim().length() < 3;
+        return test.trim().length() < MIN_LENGTH;
     }
 
     @Override
@@ -3,6 +3,10 @@ package tutortrack.model.person;
 import static java.util.Objects.requireNonNull;
 import static tutortrack.commons.util.AppUtil.checkArgument;
 
+import tutortrack.commons.util.Interner;
+import tutortrack.commons.util.StringUtil;
+import tutortrack.commons.util.ValidationResult;
+
 /**
  * Represents a Person's subject and level in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidSubjectLevel(String)}
@@ -29,6 +33,11 @@ public class SubjectLevel {
     // $ - end of string
     public static final String VALIDATION_REGEX = "^[A-Za-z0-9]+-[A-Za-z0-9]+$";
 
+    private static final ValidationResult RESULT_BLANK = ValidationResult.invalid(MESSAGE_BLANK);
+    private static final ValidationResult RESULT_INVALID_FORMAT = ValidationResult.invalid(MESSAGE_INVALID_FORMAT);
+    private static final ValidationResult RESULT_INVALID_CHARS = ValidationResult.invalid(MESSAGE_INVALID_CHARS);
+    private static final Interner<SubjectLevel> INSTANCES = new Interner<>();
+
     public final String value;
 
     /**
@@ -42,11 +51,47 @@ public class SubjectLevel {
         value = subjectLevel;
     }
 
+    /**
+     * Returns a {@code SubjectLevel} of {@code subjectLevel}, which is the same instance as any equal subject level
+     * returned earlier that is still in use.
+     *
+     * @param subjectLevel A valid subject-level string.
+     */
+    public static SubjectLevel of(String subjectLevel) {
+        return INSTANCES.intern(new SubjectLevel(subjectLevel));
+    }
+
     /**
      * Returns true if a given string is a valid subject-level.
      */
     public static boolean isValidSubjectLevel(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int dash = test.indexOf('-');
+        return dash > 0 && dash < test.length() - 1
+                && isAlphanumeric(test, 0, dash) && isAlphanumeric(test, dash + 1, test.length());
+    }
+
+    /**
+     * Validates the given subject-level, checking in turn whether it is blank, is missing the dash, or has
+     * invalid characters.
+     */
+    public static ValidationResult validate(String test) {
+        requireNonNull(test);
+        if (StringUtil.trimmedLength(test) == 0) {
+            return RESULT_BLANK;
+        }
+        if (test.indexOf('-') < 0) {
+            return RESULT_INVALID_FORMAT;
+        }
+        return isValidSubjectLevel(test) ? ValidationResult.VALID : RESULT_INVALID_CHARS;
+    }
+
+    private static boolean isAlphanumeric(String test, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!StringUtil.isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /** Returns true if the given subject-level string is blank (null or empty after trimming). */
@@ -67,7 +112,7 @@ public class SubjectLevel {
         if (test == null) {
             return true;
         }
-        return !test.matches(VALIDATION_REGEX);
+        return !isValidSubjectLevel(test);
     }
 
     @Override
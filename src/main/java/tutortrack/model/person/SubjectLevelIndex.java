@@ -0,0 +1,65 @@
+package tutortrack.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import tutortrack.commons.util.StringUtil;
+
+/**
+ * An index of persons by their subject levels, which finds the persons with a given subject level, ignoring case.
+ * <p>
+ * A subject level is a single word, so a lookup gives the same persons as {@link SubjectLevelMatchesPredicate}.
+ * Persons are compared by reference, as the index holds the exact {@code Person} objects that are in the address
+ * book.
+ */
+public class SubjectLevelIndex {
+
+    private final Map<String, Set<Person>> personsBySubjectLevel = new HashMap<>();
+
+    /**
+     * Adds {@code person} under its subject level.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        personsBySubjectLevel.computeIfAbsent(getKey(person), unused ->
+                Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+    }
+
+    /**
+     * Removes {@code person}, which must have been added earlier, from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String key = getKey(person);
+        Set<Person> persons = personsBySubjectLevel.get(key);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            personsBySubjectLevel.remove(key);
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        personsBySubjectLevel.clear();
+    }
+
+    /**
+     * Returns the persons whose subject level is {@code subjectLevel}, ignoring case.
+     * The returned set compares persons by reference and cannot be modified.
+     */
+    public Set<Person> findBySubjectLevel(String subjectLevel) {
+        requireNonNull(subjectLevel);
+        Set<Person> persons = personsBySubjectLevel.get(StringUtil.foldCase(subjectLevel.trim()));
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    private static String getKey(Person person) {
+        return StringUtil.foldCase(person.getSubjectLevel().value);
+    }
+}
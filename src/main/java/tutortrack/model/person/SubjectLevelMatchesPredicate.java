@@ -20,6 +20,13 @@ public class SubjectLevelMatchesPredicate implements Predicate<Person> {
         this.subject = subject;
     }
 
+    /**
+     * Returns the subject level that persons' subject levels are matched against.
+     */
+    public String getSubject() {
+        return subject;
+    }
+
     @Override
     public boolean test(Person person) {
         if (person.getSubjectLevel() == null) {
@@ -43,6 +50,12 @@ public class SubjectLevelMatchesPredicate implements Predicate<Person> {
         return subject.equalsIgnoreCase(otherPred.subject);
     }
 
+    @Override
+    public int hashCode() {
+        // Subjects are compared ignoring case, so equal predicates must hash the same
+        return StringUtil.foldCase(subject).hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("subject", subject).toString();
@@ -0,0 +1,92 @@
+package tutortrack.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import tutortrack.commons.util.StringUtil;
+import tutortrack.model.tag.Tag;
+
+/**
+ * An inverted index of persons by their tags, which finds the persons with a tag of a given name, ignoring case.
+ * <p>
+ * Tag names are folded the same way {@link String#equalsIgnoreCase(String)} compares them, so a lookup gives
+ * the same persons as comparing every tag of every person. Persons are compared by reference, as the index holds
+ * the exact {@code Person} objects that are in the address book.
+ */
+public class TagIndex {
+
+    private final Map<String, Set<Person>> personsByTag = new HashMap<>();
+
+    /**
+     * Adds {@code person} under each of its tags.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            personsByTag.computeIfAbsent(StringUtil.foldCase(tag.tagName), unused -> newPersonSet()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must have been added earlier, from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            String key = StringUtil.foldCase(tag.tagName);
+            Set<Person> persons = personsByTag.get(key);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByTag.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        personsByTag.clear();
+    }
+
+    /**
+     * Returns the persons with a tag named any of {@code tagNames}, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> findByTagNames(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        Set<Person> matches = newPersonSet();
+        for (Set<Person> group : findGroupsByTagNames(tagNames)) {
+            matches.addAll(group);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons with a tag named any of {@code tagNames}, ignoring case, grouped by tag without copying
+     * them. A person appears in one group for each of its matching tags.
+     * Each group compares persons by reference and cannot be modified.
+     */
+    public List<Set<Person>> findGroupsByTagNames(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        List<Set<Person>> groups = new ArrayList<>();
+        for (String tagName : tagNames) {
+            Set<Person> persons = personsByTag.get(StringUtil.foldCase(tagName.trim()));
+            if (persons != null) {
+                groups.add(Collections.unmodifiableSet(persons));
+            }
+        }
+        return groups;
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
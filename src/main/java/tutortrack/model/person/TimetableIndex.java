@@ -0,0 +1,73 @@
+package tutortrack.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A weekly timetable of persons, which holds the persons with lessons on each day of the week grouped by the
+ * minute of the day their lesson starts, in time order.
+ * <p>
+ * The day and time of each lesson are worked out once, when the person is added, so looking up a day does not
+ * need to read any {@code DayTime}. Persons are compared by reference, as the index holds the exact
+ * {@code Person} objects that are in the address book.
+ */
+public class TimetableIndex {
+
+    private final Map<DayOfWeek, NavigableMap<Integer, Set<Person>>> personsByDay = new EnumMap<>(DayOfWeek.class);
+
+    /**
+     * Adds {@code person} at the day and time of its lesson.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        DayTime dayTime = person.getDayTime();
+        personsByDay.computeIfAbsent(dayTime.getDayOfWeek(), unused -> new TreeMap<>())
+                .computeIfAbsent(dayTime.getMinuteOfDay(), unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                .add(person);
+    }
+
+    /**
+     * Removes {@code person}, which must have been added earlier, from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        DayTime dayTime = person.getDayTime();
+        NavigableMap<Integer, Set<Person>> day = personsByDay.get(dayTime.getDayOfWeek());
+        if (day == null) {
+            return;
+        }
+        Set<Person> slot = day.get(dayTime.getMinuteOfDay());
+        if (slot != null && slot.remove(person) && slot.isEmpty()) {
+            day.remove(dayTime.getMinuteOfDay());
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        personsByDay.clear();
+    }
+
+    /**
+     * Returns the persons with lessons on {@code day}, grouped by the time their lesson starts, earliest first.
+     * The persons in each group are in no particular order, and each group compares persons by reference.
+     */
+    public Collection<Set<Person>> getLessonsOn(DayOfWeek day) {
+        requireNonNull(day);
+        NavigableMap<Integer, Set<Person>> lessons = personsByDay.get(day);
+        if (lessons == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableCollection(lessons.values());
+    }
+}
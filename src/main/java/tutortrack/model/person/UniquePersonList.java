@@ -3,8 +3,20 @@ package tutortrack.model.person;
 import static java.util.Objects.requireNonNull;
 import static tutortrack.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +32,14 @@ import tutortrack.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Identity checks are answered from an index keyed on {@code Person#getIdentityKey()} that is kept in sync
+ * with the backing list, so duplicate checks take constant time regardless of the number of persons.
+ * Persons being replaced or removed are located through their {@code Person#getId()}, so that the list does not
+ * need to be scanned with {@code Person#equals(Object)}.
+ * A {@link NamePrefixIndex} over the persons' names, a {@link TagIndex} over their tags, a
+ * {@link SubjectLevelIndex} over their subject levels and a {@link TimetableIndex} over their lesson times are
+ * kept in sync in the same way.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -28,12 +48,32 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Persons in the list with a non-null identity key, keyed by that key. */
+    private final Map<String, Person> identityIndex = new HashMap<>();
+    /** Persons in the list without an identity key, who can only be the same person as themselves. */
+    private final Set<Person> keylessPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final NamePrefixIndex namePrefixIndex = new NamePrefixIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final SubjectLevelIndex subjectLevelIndex = new SubjectLevelIndex();
+    private final TimetableIndex timetableIndex = new TimetableIndex();
+
+    /**
+     * Position of each person in the backing list, keyed by id. Only the first {@code indexedPositions} positions
+     * are guaranteed to be current; later ones are refreshed lazily after a removal shifts them.
+     */
+    private final Map<UUID, Integer> positions = new HashMap<>();
+    private int indexedPositions = 0;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        String identityKey = toCheck.getIdentityKey();
+        if (identityKey == null) {
+            return keylessPersons.contains(toCheck);
+        }
+        return identityIndex.containsKey(identityKey);
     }
 
     /**
@@ -45,9 +85,38 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        addToIndex(toAdd);
+        addPosition(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list, in order, as a single change to the backing list.
+     * No person in {@code toAdd} may already exist in the list or be the same person as another one in
+     * {@code toAdd}. If one does, no person is added.
+     */
+    public void addAll(Collection<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<String> newIdentityKeys = new HashSet<>();
+        Set<Person> newKeylessPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : toAdd) {
+            String identityKey = person.getIdentityKey();
+            boolean isUnique = identityKey == null
+                    ? !keylessPersons.contains(person) && newKeylessPersons.add(person)
+                    : !identityIndex.containsKey(identityKey) && newIdentityKeys.add(identityKey);
+            if (!isUnique) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        int position = internalList.size();
+        for (Person person : toAdd) {
+            addToIndex(person);
+            addPosition(person, position++);
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -56,7 +125,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +134,11 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        Person replaced = internalList.get(index);
+        removeFromIndex(replaced);
+        positions.remove(replaced.getId(), index);
+        addToIndex(editedPerson);
+        addPosition(editedPerson, index);
         internalList.set(index, editedPerson);
     }
 
@@ -74,14 +148,32 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        // The removed element is equal to, but not necessarily the same object as, toRemove.
+        Person removed = internalList.get(index);
+        removeFromIndex(removed);
+        positions.remove(removed.getId(), index);
+        // Persons after the removed one shift down by one; their positions are refreshed on the next lookup.
+        indexedPositions = Math.min(indexedPositions, index);
+        internalList.remove(index);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        keylessPersons.clear();
+        keylessPersons.addAll(replacement.keylessPersons);
+        clearPositions();
         internalList.setAll(replacement.internalList);
+        rebuildSearchIndexes();
     }
 
     /**
@@ -90,11 +182,125 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<String, Person> newIdentityIndex = new HashMap<>();
+        Set<Person> newKeylessPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : persons) {
+            String identityKey = person.getIdentityKey();
+            boolean isUnique = identityKey == null
+                    ? newKeylessPersons.add(person)
+                    : newIdentityIndex.putIfAbsent(identityKey, person) == null;
+            if (!isUnique) {
+                throw new DuplicatePersonException();
+            }
         }
 
+        identityIndex.clear();
+        identityIndex.putAll(newIdentityIndex);
+        keylessPersons.clear();
+        keylessPersons.addAll(newKeylessPersons);
+        clearPositions();
         internalList.setAll(persons);
+        rebuildSearchIndexes();
+    }
+
+    /**
+     * Returns the persons with a name word that starts with any of {@code prefixes}, ignoring case,
+     * in the order they are in the list.
+     */
+    public List<Person> findByNamePrefixes(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        return inListOrder(namePrefixIndex.findByPrefixes(prefixes));
+    }
+
+    /**
+     * Returns the persons with a tag named any of {@code tagNames}, ignoring case, in the order they are in the list.
+     */
+    public List<Person> findByTagNames(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        return inListOrder(tagIndex.findByTagNames(tagNames));
+    }
+
+    /**
+     * Returns the persons whose subject level is {@code subjectLevel}, ignoring case, in the order they are in the
+     * list.
+     */
+    public List<Person> findBySubjectLevel(String subjectLevel) {
+        requireNonNull(subjectLevel);
+        return inListOrder(subjectLevelIndex.findBySubjectLevel(subjectLevel));
+    }
+
+    /**
+     * Returns the persons with lessons on {@code day}, ordered by lesson time, then by name ignoring case,
+     * then by the order they are in the list.
+     */
+    public List<Person> findByLessonDay(DayOfWeek day) {
+        requireNonNull(day);
+        List<Person> lessons = new ArrayList<>();
+        for (Set<Person> slot : timetableIndex.getLessonsOn(day)) {
+            List<Person> slotPersons = inListOrder(slot);
+            slotPersons.sort(Comparator.comparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER));
+            lessons.addAll(slotPersons);
+        }
+        return lessons;
+    }
+
+    /**
+     * Returns the persons that satisfy every one of {@code criteria}, in the order they are in the list.
+     * <p>
+     * Each criterion that a search index can answer is looked up first, without copying the persons, and the one
+     * with the fewest candidates decides which persons are visited at all. Those candidates are then tested
+     * against the other criteria, which is cheaper than building the larger candidate sets of the other indexes to
+     * intersect with. Only when no criterion can be answered by an index is every person tested.
+     */
+    public List<Person> findByAll(List<Predicate<Person>> criteria) {
+        requireAllNonNull(criteria);
+        Predicate<Person> mostSelective = null;
+        List<Set<Person>> fewestCandidates = null;
+        long fewestCandidateCount = Long.MAX_VALUE;
+        for (Predicate<Person> criterion : criteria) {
+            List<Set<Person>> candidates = findCandidates(criterion);
+            if (candidates == null) {
+                continue;
+            }
+            // Persons in several groups are counted once per group, which is good enough to compare criteria by
+            long candidateCount = candidates.stream().mapToLong(Set::size).sum();
+            if (candidateCount < fewestCandidateCount) {
+                mostSelective = criterion;
+                fewestCandidates = candidates;
+                fewestCandidateCount = candidateCount;
+            }
+        }
+
+        Collection<Person> candidates = internalList;
+        if (fewestCandidates != null) {
+            Set<Person> distinctCandidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            fewestCandidates.forEach(distinctCandidates::addAll);
+            candidates = distinctCandidates;
+        }
+        List<Predicate<Person>> remainingCriteria = new ArrayList<>(criteria);
+        remainingCriteria.remove(mostSelective);
+
+        List<Person> matches = new ArrayList<>();
+        for (Person candidate : candidates) {
+            if (remainingCriteria.stream().allMatch(criterion -> criterion.test(candidate))) {
+                matches.add(candidate);
+            }
+        }
+        return fewestCandidates == null ? matches : inListOrder(matches);
+    }
+
+    /**
+     * Returns the persons that satisfy every criterion of at least one of {@code alternatives}, in the order they
+     * are in the list. Each alternative is answered as {@link #findByAll(List)} answers it, so only the persons
+     * found for some alternative are visited.
+     */
+    public List<Person> findByAny(List<List<Predicate<Person>>> alternatives) {
+        requireAllNonNull(alternatives);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<Predicate<Person>> criteria : alternatives) {
+            matches.addAll(findByAll(criteria));
+        }
+        return inListOrder(matches);
     }
 
     /**
@@ -135,16 +341,123 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Records {@code person} in the identity and search indexes.
+     */
+    private void addToIndex(Person person) {
+        namePrefixIndex.add(person);
+        tagIndex.add(person);
+        subjectLevelIndex.add(person);
+        timetableIndex.add(person);
+        String identityKey = person.getIdentityKey();
+        if (identityKey == null) {
+            keylessPersons.add(person);
+        } else {
+            identityIndex.put(identityKey, person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the identity and search indexes.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private void removeFromIndex(Person person) {
+        namePrefixIndex.remove(person);
+        tagIndex.remove(person);
+        subjectLevelIndex.remove(person);
+        timetableIndex.remove(person);
+        String identityKey = person.getIdentityKey();
+        if (identityKey == null) {
+            keylessPersons.remove(person);
+        } else {
+            identityIndex.remove(identityKey, person);
+        }
+    }
+
+    /**
+     * Rebuilds the search indexes from the backing list, e.g. when the whole backing list is replaced.
+     */
+    private void rebuildSearchIndexes() {
+        namePrefixIndex.clear();
+        tagIndex.clear();
+        subjectLevelIndex.clear();
+        timetableIndex.clear();
+        for (Person person : internalList) {
+            namePrefixIndex.add(person);
+            tagIndex.add(person);
+            subjectLevelIndex.add(person);
+            timetableIndex.add(person);
+        }
+    }
+
+    /**
+     * Returns the persons that satisfy {@code criterion} as groups from the search index that can answer it, or
+     * null if no index can. Persons may appear in more than one group.
+     */
+    private List<Set<Person>> findCandidates(Predicate<Person> criterion) {
+        if (criterion instanceof TagContainsKeywordsPredicate) {
+            return tagIndex.findGroupsByTagNames(((TagContainsKeywordsPredicate) criterion).getKeywords());
+        }
+        if (criterion instanceof SubjectLevelMatchesPredicate) {
+            String subjectLevel = ((SubjectLevelMatchesPredicate) criterion).getSubject();
+            return List.of(subjectLevelIndex.findBySubjectLevel(subjectLevel));
+        }
+        if (criterion instanceof LessonDayPredicate) {
+            return ((LessonDayPredicate) criterion).getDay()
+                    .map(day -> (List<Set<Person>>) new ArrayList<>(timetableIndex.getLessonsOn(day)))
+                    .orElse(List.of());
+        }
+        return null;
+    }
+
+    /**
+     * Returns {@code persons}, which must all be in the list, in the order they are in the list.
+     */
+    private List<Person> inListOrder(Collection<Person> persons) {
+        List<Person> ordered = new ArrayList<>(persons);
+        ordered.sort(Comparator.comparingInt(this::positionOf));
+        return ordered;
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person} in the backing list, or -1 if there is none.
+     */
+    private int positionOf(Person person) {
+        refreshPositions();
+        Integer position = positions.get(person.getId());
+        if (position != null) {
+            Person candidate = internalList.get(position);
+            if (candidate == person || candidate.equals(person)) {
+                return position;
             }
         }
-        return true;
+        // The person is not recorded under its own id, e.g. it is an equal copy built separately.
+        return internalList.indexOf(person);
+    }
+
+    /**
+     * Records {@code person} as being at {@code position} in the backing list.
+     */
+    private void addPosition(Person person, int position) {
+        positions.put(person.getId(), position);
+        if (indexedPositions == position) {
+            indexedPositions++;
+        }
+    }
+
+    /**
+     * Forgets all recorded positions, e.g. when the whole backing list is replaced.
+     */
+    private void clearPositions() {
+        positions.clear();
+        indexedPositions = 0;
+    }
+
+    /**
+     * Brings the recorded positions that were shifted by earlier removals up to date.
+     */
+    private void refreshPositions() {
+        for (int i = indexedPositions; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i);
+        }
+        indexedPositions = internalList.size();
     }
 }
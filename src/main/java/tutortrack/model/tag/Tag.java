@@ -3,6 +3,9 @@ package tutortrack.model.tag;
 import static java.util.Objects.requireNonNull;
 import static tutortrack.commons.util.AppUtil.checkArgument;
 
+import tutortrack.commons.util.Interner;
+import tutortrack.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +15,8 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<Tag> INSTANCES = new Interner<>();
+
     public final String tagName;
 
     /**
@@ -25,11 +30,29 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a {@code Tag} named {@code tagName}, which is the same instance as any equal tag returned earlier
+     * that is still in use.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return INSTANCES.intern(new Tag(tagName));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!StringUtil.isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
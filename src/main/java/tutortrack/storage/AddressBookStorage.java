@@ -43,4 +43,18 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Writes the given {@link ReadOnlyAddressBook} to the data file in full, so that the data file no longer
+     * depends on any incremental changes kept beside it.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Returns true if the data file depends on incremental changes kept beside it, which
+     * {@link #compactAddressBook(ReadOnlyAddressBook)} would write into the data file.
+     */
+    boolean hasIncrementalChanges();
+
 }
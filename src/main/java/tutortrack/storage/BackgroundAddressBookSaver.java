@@ -0,0 +1,141 @@
+package tutortrack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import tutortrack.commons.core.LogsCenter;
+import tutortrack.commons.util.StringUtil;
+import tutortrack.model.ReadOnlyAddressBook;
+import tutortrack.model.person.Person;
+
+/**
+ * Saves the address book to an {@link AddressBookStorage} on a background thread.
+ * <p>
+ * Each call to {@link #save(ReadOnlyAddressBook)} takes a snapshot of the persons list, so the caller can keep
+ * changing the address book while it is being written. Snapshots that arrive while a write is in progress
+ * replace each other, and only the latest one is written once that write completes.
+ * Failed writes are passed to the error handler on the background thread.
+ */
+public class BackgroundAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService executor;
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+
+    private volatile Consumer<IOException> errorHandler = e -> {};
+    private volatile boolean isLastSaveFailed;
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that writes to {@code addressBookStorage}.
+     */
+    public BackgroundAddressBookSaver(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is given the exception of every failed write.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Returns true if the last completed write failed, in which case the data file may be out of date.
+     */
+    public boolean isLastSaveFailed() {
+        return isLastSaveFailed;
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written, replacing any snapshot that is still waiting.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        ReadOnlyAddressBook snapshot = new Snapshot(addressBook.getPersonList());
+        // Only schedule a write if none is waiting; a waiting write picks up the newest snapshot when it runs.
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            executor.execute(this::writePendingSnapshot);
+        }
+    }
+
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            addressBookStorage.saveAddressBook(snapshot);
+            isLastSaveFailed = false;
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+            isLastSaveFailed = true;
+            errorHandler.accept(e);
+        }
+    }
+
+    /**
+     * Waits until every snapshot scheduled so far has been written.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task should not fail.", e);
+        }
+    }
+
+    /**
+     * Writes every snapshot scheduled so far and stops the background thread.
+     * Snapshots scheduled afterwards are rejected.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * An address book whose persons are fixed when it is created.
+     * Taking one only copies the list, as {@code Person} objects are not modified once they are in the model.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+
+        private final ObservableList<Person> persons;
+
+        Snapshot(ObservableList<Person> persons) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+
+}
@@ -0,0 +1,315 @@
+package tutortrack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import tutortrack.commons.core.LogsCenter;
+import tutortrack.commons.exceptions.DataLoadingException;
+import tutortrack.commons.exceptions.IllegalValueException;
+import tutortrack.commons.util.FileUtil;
+import tutortrack.model.AddressBook;
+import tutortrack.model.ReadOnlyAddressBook;
+import tutortrack.model.lesson.LessonHistory;
+import tutortrack.model.lesson.LessonItem;
+import tutortrack.model.lesson.LessonPlan;
+import tutortrack.model.lesson.LessonProgress;
+import tutortrack.model.person.Address;
+import tutortrack.model.person.DayTime;
+import tutortrack.model.person.HourlyRate;
+import tutortrack.model.person.Name;
+import tutortrack.model.person.Person;
+import tutortrack.model.person.Phone;
+import tutortrack.model.person.SubjectLevel;
+import tutortrack.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a four-byte header and a format version, followed by the number of persons and
+ * each person in turn. Strings are written as their UTF-8 length followed by their bytes, with a length of -1
+ * for a missing value. Dates are written as epoch days, a {@code DayTime} as its day of the week and minute of
+ * the day, and a {@code HourlyRate} as cents.
+ * <p>
+ * Files that do not start with the header are read as json data files, so an existing json data file can be
+ * loaded and is then saved in the binary format. {@link JsonAddressBookStorage} reads binary files in turn, so
+ * a data file can be converted back to json.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file format version %d is not supported!";
+    public static final String MESSAGE_MISSING_VALUE = "A required value is missing from the data file!";
+
+    private static final byte[] MAGIC = {'T', 'T', 'A', 'B'};
+    private static final int NULL_LENGTH = -1;
+    // Guards against allocating a huge buffer for the length read from a corrupted file
+    private static final int MAX_STRING_LENGTH = 1 << 24;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage jsonStorage;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the data file at {@code filePath}.
+     */
+    public BinaryAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.jsonStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with the header of the binary format.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+
+        byte[] header = new byte[MAGIC.length];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            int read = 0;
+            while (read < header.length) {
+                int count = in.read(header, read, header.length - read);
+                if (count < 0) {
+                    return false;
+                }
+                read += count;
+            }
+        }
+        return Arrays.equals(header, MAGIC);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A file without the binary header is read as a json data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            if (!isBinaryFile(filePath)) {
+                return jsonStorage.readAddressBook(filePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(readAddressBook(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out))) {
+                writeAddressBook(addressBook, dataOut);
+            }
+        });
+    }
+
+    /**
+     * Does nothing, as every save already writes the data file in full.
+     */
+    @Override
+    public void compactAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+    }
+
+    /**
+     * Returns false, as every save already writes the data file in full.
+     */
+    @Override
+    public boolean hasIncrementalChanges() {
+        return false;
+    }
+
+    //// writing
+
+    private static void writeAddressBook(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        out.write(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            writePerson(person, out);
+        }
+    }
+
+    private static void writePerson(Person person, DataOutputStream out) throws IOException {
+        out.writeLong(person.getId().getMostSignificantBits());
+        out.writeLong(person.getId().getLeastSignificantBits());
+        writeString(person.getName().fullName, out);
+        writeString(person.getSelfContact() == null ? null : person.getSelfContact().value, out);
+        writeString(person.getNokContact() == null ? null : person.getNokContact().value, out);
+        writeString(person.getSubjectLevel().value, out);
+        out.writeByte(person.getDayTime().getDayOfWeek().getValue());
+        out.writeShort(person.getDayTime().getMinuteOfDay());
+        out.writeLong(person.getHourlyRate().getCents());
+        writeString(person.getAddress().value, out);
+
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeString(tag.tagName, out);
+        }
+        writeLessonItems(person.getLessonPlanHistory(), out);
+        writeLessonItems(person.getLessonProgressHistory(), out);
+    }
+
+    private static void writeLessonItems(LessonHistory<? extends LessonItem> lessonItems, DataOutputStream out)
+            throws IOException {
+        out.writeInt(lessonItems.size());
+        for (LessonItem lessonItem : lessonItems) {
+            out.writeInt(Math.toIntExact(lessonItem.getEpochDay()));
+            writeString(lessonItem.getDescription(), out);
+        }
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    //// reading
+
+    private static AddressBook readAddressBook(DataInputStream in) throws IOException, IllegalValueException {
+        in.skipBytes(MAGIC.length);
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        LoadedAddressBook addressBook = new LoadedAddressBook();
+        int personCount = in.readInt();
+        for (int i = 0; i < personCount; i++) {
+            Person person;
+            try {
+                person = readPerson(in);
+            } catch (IllegalArgumentException | DateTimeException e) {
+                // Thrown by the model's and java.time's factories for values that violate their constraints
+                throw new IllegalValueException(e.getMessage(), e);
+            }
+            JsonSerializableAddressBook.addToModel(person, false, addressBook);
+        }
+        return addressBook;
+    }
+
+    private static Person readPerson(DataInputStream in) throws IOException, IllegalValueException {
+        UUID id = new UUID(in.readLong(), in.readLong());
+        Name name = new Name(readRequiredString(in));
+        String selfContact = readString(in);
+        String nokContact = readString(in);
+        SubjectLevel subjectLevel = SubjectLevel.of(readRequiredString(in));
+        DayTime dayTime = DayTime.of(DayOfWeek.of(in.readByte()), in.readShort());
+        HourlyRate hourlyRate = HourlyRate.ofCents(in.readLong());
+        Address address = new Address(readRequiredString(in));
+
+        int tagCount = in.readInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.of(readRequiredString(in)));
+        }
+
+        Person person = new Person(id, name, selfContact == null ? null : new Phone(selfContact),
+                nokContact == null ? null : new Phone(nokContact), subjectLevel, dayTime, hourlyRate, address, tags);
+        int planCount = in.readInt();
+        for (int i = 0; i < planCount; i++) {
+            person.addLessonPlan(new LessonPlan(readDate(in), readRequiredString(in)));
+        }
+        int progressCount = in.readInt();
+        for (int i = 0; i < progressCount; i++) {
+            person.addLessonProgress(new LessonProgress(readDate(in), readRequiredString(in)));
+        }
+        return person;
+    }
+
+    private static LocalDate readDate(DataInputStream in) throws IOException {
+        return LocalDate.ofEpochDay(in.readInt());
+    }
+
+    private static String readRequiredString(DataInputStream in) throws IOException, IllegalValueException {
+        String value = readString(in);
+        if (value == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_VALUE);
+        }
+        return value;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > MAX_STRING_LENGTH) {
+            throw new IOException("Invalid string length " + length + " in data file");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
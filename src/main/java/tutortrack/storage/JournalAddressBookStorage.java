@@ -0,0 +1,352 @@
+package tutortrack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import tutortrack.commons.core.LogsCenter;
+import tutortrack.commons.exceptions.DataLoadingException;
+import tutortrack.commons.exceptions.IllegalValueException;
+import tutortrack.commons.util.FileUtil;
+import tutortrack.commons.util.JsonUtil;
+import tutortrack.model.AddressBook;
+import tutortrack.model.ReadOnlyAddressBook;
+import tutortrack.model.person.Person;
+import tutortrack.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a snapshot plus an append-only journal on the hard disk.
+ * <p>
+ * The snapshot is an ordinary data file, as written by {@link JsonAddressBookStorage} unless another snapshot
+ * storage is given. Each save only
+ * appends the persons that were added, edited or deleted since the previous save to the journal, one json
+ * entry per line, instead of rewriting the whole data file. When the journal grows past a threshold, or when
+ * the changes cannot be expressed as entries, the full snapshot is rewritten and the journal is dropped.
+ * <p>
+ * Changes are found by comparing the saved persons with the current ones by reference, which relies on
+ * {@code Person} objects not being modified once they are in the model.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final Path compactingJournalFilePath;
+    private final Path newSnapshotFilePath;
+    private final int compactionThreshold;
+    private final AddressBookStorage snapshotStorage;
+
+    // Persons as last written to the snapshot and journal, by id in list order; null if not known.
+    private Map<UUID, Person> savedPersons;
+    private int journalEntryCount;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, true);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that rewrites the snapshot at {@code filePath}
+     * once the journal holds more than {@code compactionThreshold} entries.
+     * The snapshot is pretty printed as in {@link JsonAddressBookStorage#JsonAddressBookStorage(Path, boolean)}.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold, boolean isPrettyPrinted) {
+        this(new JsonAddressBookStorage(filePath, isPrettyPrinted), compactionThreshold);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that keeps its snapshot at the data file of
+     * {@code snapshotStorage}, and rewrites it once the journal holds more than {@code compactionThreshold} entries.
+     */
+    public JournalAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        Path filePath = snapshotStorage.getAddressBookFilePath();
+        this.filePath = filePath;
+        this.journalFilePath = siblingOf(filePath, ".journal");
+        this.compactingJournalFilePath = siblingOf(filePath, ".journal.compacting");
+        this.newSnapshotFilePath = siblingOf(filePath, ".new");
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = snapshotStorage;
+    }
+
+    private static Path siblingOf(Path filePath, String suffix) {
+        return filePath.resolveSibling(filePath.getFileName() + suffix);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Only the data file of this storage has a journal; any other file is read as a plain json data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        try {
+            recoverInterruptedCompaction();
+        } catch (IOException e) {
+            logger.warning("Error recovering interrupted compaction of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Map<UUID, Person> persons = new LinkedHashMap<>();
+        snapshot.ifPresent(addressBook -> addressBook.getPersonList()
+                .forEach(person -> persons.put(person.getId(), person)));
+
+        boolean isJournalComplete = replayJournal(persons);
+        if (!snapshot.isPresent() && journalEntryCount == 0) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(new ArrayList<>(persons.values()));
+        } catch (DuplicatePersonException e) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + e.getMessage());
+            throw new DataLoadingException(new IllegalValueException(
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+
+        // A torn last entry must not have more entries appended after it, and entries must not refer to ids that
+        // the snapshot does not hold, as those are made up anew on every load. The next save compacts instead.
+        savedPersons = isJournalComplete && !hasGeneratedIds(snapshot) ? persons : null;
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns true if reading {@code snapshot} gave any person an id that is not in the snapshot file.
+     */
+    private static boolean hasGeneratedIds(Optional<ReadOnlyAddressBook> snapshot) {
+        return snapshot.filter(addressBook -> addressBook instanceof LoadedAddressBook)
+                .map(addressBook -> ((LoadedAddressBook) addressBook).hasGeneratedIds())
+                .orElse(false);
+    }
+
+    /**
+     * Replays the journal entries on {@code persons}, ignoring a last entry that was only partly written.
+     * Returns false if such an entry was found.
+     *
+     * @throws DataLoadingException if the journal could not be read or an earlier entry is invalid.
+     */
+    private boolean replayJournal(Map<UUID, Person> persons) throws DataLoadingException {
+        journalEntryCount = 0;
+        if (!Files.exists(journalFilePath)) {
+            return true;
+        }
+        logger.info("Journal file " + journalFilePath + " found.");
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        Iterator<String> iterator = lines.iterator();
+        while (iterator.hasNext()) {
+            String line = iterator.next();
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (!iterator.hasNext()) {
+                    logger.warning("Ignoring incomplete last entry of journal file " + journalFilePath);
+                    return false;
+                }
+                logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+
+            try {
+                entry.applyTo(persons);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            journalEntryCount++;
+        }
+        return true;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the data file of this storage has a journal; any other file is written as a plain json data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<UUID, Person> currentPersons = new LinkedHashMap<>();
+        persons.forEach(person -> currentPersons.put(person.getId(), person));
+
+        Optional<List<JsonAdaptedJournalEntry>> entries = getJournalEntries(currentPersons, persons.size());
+        if (!entries.isPresent() || journalEntryCount + entries.get().size() > compactionThreshold) {
+            compactAddressBook(addressBook);
+            return;
+        }
+        if (entries.get().isEmpty()) {
+            return;
+        }
+
+        appendToJournal(entries.get());
+        savedPersons = currentPersons;
+        journalEntryCount += entries.get().size();
+    }
+
+    /**
+     * Returns the entries that turn the saved persons into {@code currentPersons} when replayed,
+     * or {@code Optional.empty()} if replaying entries cannot reproduce them.
+     */
+    private Optional<List<JsonAdaptedJournalEntry>> getJournalEntries(Map<UUID, Person> currentPersons,
+            int personCount) {
+        if (savedPersons == null || currentPersons.size() != personCount) {
+            return Optional.empty();
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        List<UUID> replayedOrder = new ArrayList<>(currentPersons.size());
+        for (Map.Entry<UUID, Person> saved : savedPersons.entrySet()) {
+            Person current = currentPersons.get(saved.getKey());
+            if (current == null) {
+                entries.add(JsonAdaptedJournalEntry.remove(saved.getKey()));
+                continue;
+            }
+            if (current != saved.getValue()) {
+                entries.add(JsonAdaptedJournalEntry.put(current));
+            }
+            replayedOrder.add(saved.getKey());
+        }
+        for (Person current : currentPersons.values()) {
+            if (!savedPersons.containsKey(current.getId())) {
+                entries.add(JsonAdaptedJournalEntry.put(current));
+                replayedOrder.add(current.getId());
+            }
+        }
+
+        // Replaying keeps existing persons in place and appends new ones, so any other reordering needs a snapshot.
+        if (!replayedOrder.equals(new ArrayList<>(currentPersons.keySet()))) {
+            return Optional.empty();
+        }
+        return Optional.of(entries);
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append(System.lineSeparator());
+        }
+
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(journalFilePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(lines.toString());
+        }
+    }
+
+    /**
+     * Returns true if the journal holds any entries, which {@link #compactAddressBook(ReadOnlyAddressBook)} would
+     * write into the snapshot.
+     */
+    @Override
+    public boolean hasIncrementalChanges() {
+        return journalEntryCount > 0;
+    }
+
+    /**
+     * Rewrites the snapshot with the whole of {@code addressBook} and drops the journal.
+     * <p>
+     * The new snapshot is written beside the data file first. The journal is then set aside, which marks the new
+     * snapshot as complete, before it replaces the data file. {@link #recoverInterruptedCompaction()} finishes
+     * these steps if the app stops half way, so a journal is never replayed on a snapshot that already has it.
+     */
+    @Override
+    public void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        snapshotStorage.saveAddressBook(addressBook, newSnapshotFilePath);
+        if (Files.exists(journalFilePath)) {
+            Files.move(journalFilePath, compactingJournalFilePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.move(newSnapshotFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        Files.deleteIfExists(compactingJournalFilePath);
+
+        savedPersons = new LinkedHashMap<>();
+        addressBook.getPersonList().forEach(person -> savedPersons.put(person.getId(), person));
+        journalEntryCount = 0;
+    }
+
+    private void recoverInterruptedCompaction() throws IOException {
+        if (!Files.exists(compactingJournalFilePath)) {
+            // The new snapshot may be incomplete, and the journal still holds its changes.
+            Files.deleteIfExists(newSnapshotFilePath);
+            return;
+        }
+
+        logger.info("Completing interrupted compaction of " + filePath);
+        if (Files.exists(newSnapshotFilePath)) {
+            Files.move(newSnapshotFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.deleteIfExists(compactingJournalFilePath);
+    }
+
+}
@@ -0,0 +1,91 @@
+package tutortrack.storage;
+
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tutortrack.commons.exceptions.IllegalValueException;
+import tutortrack.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change recorded in the address book journal.
+ * A {@code put} entry stores the whole person, a {@code remove} entry only the id of the removed person.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String INVALID_OPERATION_MESSAGE = "Journal entry's operation is not recognised!";
+
+    static final String OPERATION_PUT = "put";
+    static final String OPERATION_REMOVE = "remove";
+
+    private final String operation;
+    private final String id;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation, @JsonProperty("id") String id,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.operation = operation;
+        this.id = id;
+        this.person = person;
+    }
+
+    /**
+     * Returns an entry that adds {@code person}, or replaces the person with the same id.
+     */
+    public static JsonAdaptedJournalEntry put(Person person) {
+        return new JsonAdaptedJournalEntry(OPERATION_PUT, person.getId().toString(), new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns an entry that removes the person with the given id.
+     */
+    public static JsonAdaptedJournalEntry remove(UUID id) {
+        return new JsonAdaptedJournalEntry(OPERATION_REMOVE, id.toString(), null);
+    }
+
+    /**
+     * Replays this entry on {@code persons}, which maps ids to persons in list order.
+     * A replaced person keeps its position and an added person goes to the end, as in the model.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in this entry.
+     */
+    public void applyTo(Map<UUID, Person> persons) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+
+        switch (operation) {
+        case OPERATION_PUT:
+            if (person == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+            }
+            Person modelPerson = person.toModelType();
+            persons.put(modelPerson.getId(), modelPerson);
+            break;
+        case OPERATION_REMOVE:
+            persons.remove(toModelId());
+            break;
+        default:
+            throw new IllegalValueException(INVALID_OPERATION_MESSAGE);
+        }
+    }
+
+    private UUID toModelId() throws IllegalValueException {
+        if (id == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "id"));
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(JsonAdaptedPerson.INVALID_ID_MESSAGE);
+        }
+    }
+
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -27,7 +28,9 @@ import tutortrack.model.tag.Tag;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String INVALID_ID_MESSAGE = "Person's id field is not a valid UUID!";
 
+    private final String id;
     private final String name;
     private final String selfContact;
     private final String nokContact;
@@ -39,17 +42,30 @@ class JsonAdaptedPerson {
     private final List<JsonAdaptedLessonPlan> lessonPlanList = new ArrayList<>();
     private final List<JsonAdaptedLessonProgress> lessonProgressList = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no saved id.
+     * A new id is generated when it is converted into the model's {@code Person}.
+     */
+    public JsonAdaptedPerson(String name, String selfContact, String nokContact, String subjectLevel,
+            String dayTime, String hourlyRate, String address, List<JsonAdaptedTag> tags,
+            List<JsonAdaptedLessonPlan> lessonPlanList, List<JsonAdaptedLessonProgress> lessonProgressList) {
+        this(null, name, selfContact, nokContact, subjectLevel, dayTime, hourlyRate, address, tags,
+                lessonPlanList, lessonProgressList);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("selfContact") String selfContact,
+    public JsonAdaptedPerson(@JsonProperty("id") String id,
+            @JsonProperty("name") String name, @JsonProperty("selfContact") String selfContact,
             @JsonProperty("nokContact") String nokContact,
             @JsonProperty("subjectLevel") String subjectLevel,
             @JsonProperty("dayTime") String dayTime, @JsonProperty("hourlyRate") String hourlyRate,
             @JsonProperty("address") String address, @JsonProperty("tags") List<JsonAdaptedTag> tags,
                              @JsonProperty("lessonPlanList") List<JsonAdaptedLessonPlan> lessonPlanList,
                              @JsonProperty("lessonProgressList") List<JsonAdaptedLessonProgress> lessonProgressList) {
+        this.id = id;
         this.name = name;
         this.selfContact = selfContact;
         this.nokContact = nokContact;
@@ -72,6 +88,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId().toString();
         name = source.getName().fullName;
         selfContact = (source.getSelfContact() != null) ? source.getSelfContact().value : null;
         nokContact = (source.getNokContact() != null) ? source.getNokContact().value : null;
@@ -82,14 +99,21 @@ class JsonAdaptedPerson {
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
-        lessonPlanList.addAll(source.getLessonPlanList().stream()
+        lessonPlanList.addAll(source.getLessonPlanHistory().toList().stream()
                 .map(JsonAdaptedLessonPlan::new)
                 .collect(Collectors.toList()));
-        lessonProgressList.addAll(source.getLessonProgressList().stream()
+        lessonProgressList.addAll(source.getLessonProgressHistory().toList().stream()
                 .map(JsonAdaptedLessonProgress::new)
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns true if this person has a saved id, which {@link #toModelType()} keeps instead of generating one.
+     */
+    boolean hasId() {
+        return id != null;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -151,7 +175,7 @@ class JsonAdaptedPerson {
         if (!SubjectLevel.isValidSubjectLevel(subjectLevel)) {
             throw new IllegalValueException(SubjectLevel.MESSAGE_CONSTRAINTS);
         }
-        final SubjectLevel modelSubjectLevel = new SubjectLevel(subjectLevel);
+        final SubjectLevel modelSubjectLevel = SubjectLevel.of(subjectLevel);
 
         if (dayTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -160,7 +184,7 @@ class JsonAdaptedPerson {
         if (!DayTime.isValidDayTime(dayTime)) {
             throw new IllegalValueException(DayTime.MESSAGE_CONSTRAINTS);
         }
-        final DayTime modelDayTime = new DayTime(dayTime);
+        final DayTime modelDayTime = DayTime.of(dayTime);
 
         if (hourlyRate == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -169,7 +193,7 @@ class JsonAdaptedPerson {
         if (!HourlyRate.isValidHourlyRate(hourlyRate)) {
             throw new IllegalValueException(HourlyRate.MESSAGE_CONSTRAINTS);
         }
-        final HourlyRate modelHourlyRate = new HourlyRate(hourlyRate);
+        final HourlyRate modelHourlyRate = HourlyRate.of(hourlyRate);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -181,11 +205,19 @@ class JsonAdaptedPerson {
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
-        Person person = new Person(modelName, modelSelfContact, modelNokContact,
+        // Persons saved before ids were introduced are given a new id
+        final UUID modelId;
+        try {
+            modelId = (id == null) ? UUID.randomUUID() : UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
+        }
+
+        Person person = new Person(modelId, modelName, modelSelfContact, modelNokContact,
                 modelSubjectLevel, modelDayTime, modelHourlyRate, modelAddress, modelTags);
 
-        person.getLessonPlanList().addAll(modelLessonPlan);
-        person.getLessonProgressList().addAll(modelLessonProgress);
+        modelLessonPlan.forEach(person::addLessonPlan);
+        modelLessonProgress.forEach(person::addLessonProgress);
 
         return person;
     }
@@ -3,16 +3,27 @@ package tutortrack.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import tutortrack.commons.core.LogsCenter;
 import tutortrack.commons.exceptions.DataLoadingException;
 import tutortrack.commons.exceptions.IllegalValueException;
 import tutortrack.commons.util.FileUtil;
 import tutortrack.commons.util.JsonUtil;
+import tutortrack.model.AddressBook;
 import tutortrack.model.ReadOnlyAddressBook;
+import tutortrack.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -21,10 +32,24 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String PERSONS_FIELD = "persons";
+    private static final int PERSON_BATCH_SIZE = 4096;
+
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the data file at {@code filePath}.
+     * If {@code isPrettyPrinted} is false, the data file is written without indentation or line breaks,
+     * which makes it smaller and faster to write, but harder to edit by hand.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +63,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * A file that starts with the header of {@link BinaryAddressBookStorage} is read in that format, so that
+     * a data file saved in the binary format can still be loaded and then saved as json.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,20 +72,70 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+                return new BinaryAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try {
+            return Optional.of(readPersons(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads the address book in {@code filePath} in the format of {@link JsonSerializableAddressBook}.
+     * The {@code persons} array is read in batches of {@link #PERSON_BATCH_SIZE} persons, and each batch is
+     * converted, in parallel, and added to the address book before the next one is read, so that the file is never
+     * held in memory as a whole.
+     */
+    private static AddressBook readPersons(Path filePath) throws IOException, IllegalValueException {
+        LoadedAddressBook addressBook = new LoadedAddressBook();
+
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!PERSONS_FIELD.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array of persons");
+                }
+
+                List<JsonAdaptedPerson> batch = new ArrayList<>(PERSON_BATCH_SIZE);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                    if (batch.size() == PERSON_BATCH_SIZE) {
+                        JsonSerializableAddressBook.addAllToModel(batch, addressBook);
+                        batch.clear();
+                    }
+                }
+                JsonSerializableAddressBook.addAllToModel(batch, addressBook);
+            }
+        }
+        return addressBook;
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +150,39 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> writePersons(addressBook, out));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the format of {@link JsonSerializableAddressBook}.
+     * Each person is converted and written out in turn, so that the file is never built in memory as a whole.
+     */
+    private void writePersons(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(out, isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Does nothing, as every save already writes the data file in full.
+     */
+    @Override
+    public void compactAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+    }
+
+    /**
+     * Returns false, as every save already writes the data file in full.
+     */
+    @Override
+    public boolean hasIncrementalChanges() {
+        return false;
     }
 
 }
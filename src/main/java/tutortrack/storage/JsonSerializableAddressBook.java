@@ -3,6 +3,7 @@ package tutortrack.storage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -21,6 +22,9 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    /** Lists shorter than this are converted on the calling thread, as splitting them up costs more than it saves. */
+    static final int MIN_PARALLEL_CONVERSION_SIZE = 256;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -46,15 +50,80 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        LoadedAddressBook addressBook = new LoadedAddressBook();
+        addAllToModel(persons, addressBook);
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPersons} and adds them, in order, to {@code addressBook}.
+     * Large lists are converted in parallel on the common fork-join pool. The persons are still added one by one
+     * in list order, so the error reported is the one the first invalid or duplicate person in the list gives.
+     *
+     * @throws IllegalValueException if a person violates the data constraints or is a duplicate.
+     * @see #addToModel(Person, boolean, LoadedAddressBook)
+     */
+    static void addAllToModel(List<JsonAdaptedPerson> jsonAdaptedPersons, LoadedAddressBook addressBook)
+            throws IllegalValueException {
+        Stream<JsonAdaptedPerson> stream = jsonAdaptedPersons.size() < MIN_PARALLEL_CONVERSION_SIZE
+                ? jsonAdaptedPersons.stream()
+                : jsonAdaptedPersons.parallelStream();
+        List<Conversion> conversions = stream.map(Conversion::of).collect(Collectors.toList());
+
+        for (Conversion conversion : conversions) {
+            addToModel(conversion.getPerson(), conversion.isIdGenerated(), addressBook);
+        }
+    }
+
+    /**
+     * Adds {@code person}, as read from a data file, to {@code addressBook}.
+     * {@code isIdGenerated} tells whether the id of {@code person} was made up because the data file has none.
+     *
+     * @throws IllegalValueException if the address book already has a person with the same identity.
+     * @see LoadedAddressBook#addLoadedPerson(Person, boolean)
+     */
+    static void addToModel(Person person, boolean isIdGenerated, LoadedAddressBook addressBook)
+            throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addLoadedPerson(person, isIdGenerated);
+    }
+
+    /**
+     * The outcome of converting one {@code JsonAdaptedPerson}, which is either a person or the reason it is invalid.
+     * The exception is kept rather than thrown so that a parallel conversion does not stop at whichever invalid
+     * person happens to be converted first.
+     */
+    private static class Conversion {
+        private final Person person;
+        private final boolean isIdGenerated;
+        private final IllegalValueException exception;
+
+        private Conversion(Person person, boolean isIdGenerated, IllegalValueException exception) {
+            this.person = person;
+            this.isIdGenerated = isIdGenerated;
+            this.exception = exception;
+        }
+
+        static Conversion of(JsonAdaptedPerson jsonAdaptedPerson) {
+            try {
+                return new Conversion(jsonAdaptedPerson.toModelType(), !jsonAdaptedPerson.hasId(), null);
+            } catch (IllegalValueException ive) {
+                return new Conversion(null, false, ive);
             }
-            addressBook.addPerson(person);
         }
-        return addressBook;
+
+        boolean isIdGenerated() {
+            return isIdGenerated;
+        }
+
+        Person getPerson() throws IllegalValueException {
+            if (exception != null) {
+                throw exception;
+            }
+            return person;
+        }
     }
 
 }
@@ -0,0 +1,47 @@
+package tutortrack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import tutortrack.model.AddressBook;
+import tutortrack.model.person.Person;
+
+/**
+ * An {@code AddressBook} as read from a data file, which remembers whether any of its persons was given an id
+ * that the data file does not hold.
+ * <p>
+ * Such ids are made up anew on every load, so changes recorded against them cannot be matched with the data file
+ * later. {@link JournalAddressBookStorage} checks {@link #hasGeneratedIds()} to rewrite the data file instead.
+ */
+class LoadedAddressBook extends AddressBook {
+
+    private final Set<UUID> ids = new HashSet<>();
+    private boolean hasGeneratedIds;
+
+    /**
+     * Adds {@code person}, as read from a data file, to this address book.
+     * A person whose id is already taken is given a new one, as an entry copied by hand in the data file keeps
+     * the id of its original. {@code isIdGenerated} tells whether the id of {@code person} is itself a new one.
+     */
+    void addLoadedPerson(Person person, boolean isIdGenerated) {
+        requireNonNull(person);
+        if (!ids.add(person.getId())) {
+            person = person.withId(UUID.randomUUID());
+            ids.add(person.getId());
+            isIdGenerated = true;
+        }
+        hasGeneratedIds |= isIdGenerated;
+        addPerson(person);
+    }
+
+    /**
+     * Returns true if any person was given an id that is not in the data file.
+     */
+    boolean hasGeneratedIds() {
+        return hasGeneratedIds;
+    }
+
+}
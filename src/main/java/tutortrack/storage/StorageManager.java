@@ -75,4 +75,15 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Attempting to compact data file: " + getAddressBookFilePath());
+        addressBookStorage.compactAddressBook(addressBook);
+    }
+
+    @Override
+    public boolean hasIncrementalChanges() {
+        return addressBookStorage.hasIncrementalChanges();
+    }
+
 }
@@ -196,9 +196,9 @@ public class LessonWindow extends UiPart<Stage> {
             return;
         }
 
-        // Find the updated person by matching the name (since person objects are immutable)
+        // Find the updated person by matching the id, which is kept when a person is edited
         Person updatedPerson = updatedPersonList.stream()
-                                .filter(p -> p.isSamePerson(currentPerson))
+                                .filter(p -> p.getId().equals(currentPerson.getId()))
                                 .findFirst()
                                 .orElse(null);
 
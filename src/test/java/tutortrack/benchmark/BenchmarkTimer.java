@@ -0,0 +1,47 @@
+package tutortrack.benchmark;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Times a task without a benchmark framework. The task is run a few rounds to let the JIT compile it, then timed
+ * over more rounds, and the median round is reported so that a stray GC pause does not skew the result.
+ * <p>
+ * The figures are only good for comparing two versions of the same code run on the same machine.
+ */
+final class BenchmarkTimer {
+
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int TIMED_ROUNDS = 11;
+
+    // Results are folded into this field so that the JIT cannot drop the work that produced them.
+    private static volatile long sink;
+
+    private BenchmarkTimer() {}
+
+    /**
+     * Returns the median time, in milliseconds, that one run of {@code task} takes.
+     * The task returns a value derived from its work, such as a count of matches.
+     */
+    static double medianMillis(LongSupplier task) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            sink += task.getAsLong();
+        }
+        long[] nanos = new long[TIMED_ROUNDS];
+        for (int i = 0; i < TIMED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += task.getAsLong();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[TIMED_ROUNDS / 2] / 1e6;
+    }
+
+    /**
+     * Prints the median times of the old and new versions of {@code name}, and how many times faster the new one is.
+     */
+    static void report(String name, double oldMillis, double newMillis) {
+        System.out.printf("%-22s old %9.2f ms   new %9.2f ms   %6.1fx%n", name, oldMillis, newMillis,
+                oldMillis / newMillis);
+    }
+}
@@ -0,0 +1,111 @@
+package tutortrack.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import tutortrack.model.person.NameContainsKeywordsPredicate;
+import tutortrack.model.person.Person;
+import tutortrack.testutil.PersonBuilder;
+
+/**
+ * Compares sorting the results of a name search on a 50,000 student roster with the comparator of
+ * {@link NameContainsKeywordsPredicate}, which works out each person's rank and sort key once, with the comparator
+ * it replaced, which split and lower-cased both names on every comparison.
+ * <p>
+ * The roster is generated from a fixed seed, and both comparators must give the same order. Run it from the project
+ * root after {@code ./gradlew testClasses}, with the main and test classes and the runtime dependencies on the
+ * class path, as {@code java tutortrack.benchmark.NameSortBenchmark}.
+ */
+public class NameSortBenchmark {
+
+    private static final int ROSTER_SIZE = 50_000;
+    private static final long SEED = 42;
+
+    private static final String[] GIVEN_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Tan",
+        "Wei Ling", "Jun Jie", "Siti", "Priya", "Ahmad", "Mei", "Kumar", "Li Hua", "Nur", "Daniel", "Elle"};
+    private static final String[] FAMILY_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Lim",
+        "Tan", "Ng", "Goh", "Wong", "Chua", "Rahman", "Pillai", "Meier", "Kurz", "Lee", "Teo"};
+    private static final List<String> KEYWORDS = Arrays.asList("li", "ta");
+
+    /**
+     * Runs the comparison and prints the median time of one sort with each comparator.
+     */
+    public static void main(String[] args) {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(KEYWORDS);
+        List<Person> matches = createRoster().stream().filter(predicate).collect(Collectors.toList());
+        System.out.println(matches.size() + " of " + ROSTER_SIZE + " students match " + KEYWORDS);
+
+        if (!sort(matches, new OldRankingComparator(KEYWORDS)).equals(sort(matches, predicate.getComparator()))) {
+            throw new IllegalStateException("The comparators give different orders");
+        }
+
+        // A find creates a new comparator, so each round starts with no cached keys
+        double oldMillis = BenchmarkTimer.medianMillis(() ->
+                sort(matches, new OldRankingComparator(KEYWORDS)).get(0).hashCode());
+        double newMillis = BenchmarkTimer.medianMillis(() ->
+                sort(matches, predicate.getComparator()).get(0).hashCode());
+        BenchmarkTimer.report("Name search sort", oldMillis, newMillis);
+    }
+
+    private static List<Person> createRoster() {
+        Random random = new Random(SEED);
+        List<Person> roster = new ArrayList<>(ROSTER_SIZE);
+        for (int i = 0; i < ROSTER_SIZE; i++) {
+            String name = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)] + " "
+                    + FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)] + " " + i;
+            roster.add(new PersonBuilder().withName(name).build());
+        }
+        return roster;
+    }
+
+    private static List<Person> sort(List<Person> persons, Comparator<Person> comparator) {
+        List<Person> sorted = new ArrayList<>(persons);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    /**
+     * The name search comparator as it was before ranking keys were cached.
+     */
+    private static class OldRankingComparator implements Comparator<Person> {
+        private final List<String> keywords;
+
+        OldRankingComparator(List<String> keywords) {
+            this.keywords = keywords;
+        }
+
+        @Override
+        public int compare(Person person1, Person person2) {
+            int rank1 = getRanking(person1);
+            int rank2 = getRanking(person2);
+            if (rank1 != rank2) {
+                return Integer.compare(rank1, rank2);
+            }
+            return person1.getName().fullName.compareToIgnoreCase(person2.getName().fullName);
+        }
+
+        private int getRanking(Person person) {
+            String[] tokens = person.getName().fullName.split("\\s+");
+            if (tokens.length == 0) {
+                return 3;
+            }
+            for (String keyword : keywords) {
+                if (tokens[0].toLowerCase().startsWith(keyword.toLowerCase())) {
+                    return 1;
+                }
+            }
+            for (int i = 1; i < tokens.length; i++) {
+                for (String keyword : keywords) {
+                    if (tokens[i].toLowerCase().startsWith(keyword.toLowerCase())) {
+                        return 2;
+                    }
+                }
+            }
+            return 3;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package tutortrack.benchmark;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import tutortrack.model.person.Address;
+import tutortrack.model.person.DayTime;
+import tutortrack.model.person.HourlyRate;
+import tutortrack.model.person.Name;
+import tutortrack.model.person.Phone;
+import tutortrack.model.person.SubjectLevel;
+import tutortrack.model.tag.Tag;
+
+/**
+ * Compares the field validators, which scan the characters of a value, with the {@code String.matches} calls
+ * they replaced, which compile the validation regex again on every call.
+ * <p>
+ * Each validator checks the same mix of valid and invalid values with both versions, and the numbers of values
+ * found valid must agree. Run it from the project root after {@code ./gradlew testClasses} with
+ * <pre>
+ * java -cp build/classes/java/main:build/classes/java/test tutortrack.benchmark.ValidationBenchmark
+ * </pre>
+ */
+public class ValidationBenchmark {
+
+    private static final int CALLS_PER_ROUND = 50_000;
+
+    private static final List<Validator> VALIDATORS = List.of(
+            new Validator("Name", Name.VALIDATION_REGEX, Name::isValidName,
+                    "Alex Yeoh", "Bernice Yu", "Charlotte Oliveiro", "David Li 2", "R@chel", " Irfan", "",
+                    "X \u00c6 A"),
+            new Validator("Phone", Phone.VALIDATION_REGEX, Phone::isValidPhone,
+                    "87438807", "99272758", "911", "9312 1534", "12", "phone", "+6598765432", ""),
+            new Validator("DayTime", DayTime.VALIDATION_REGEX, DayTime::isValidDayTime,
+                    "Monday 1200", "tuesday 0930", "SUNDAY 2359", "Friday 2400", "Mon 1200", "Monday 12:00",
+                    "Wednesday  1000", ""),
+            new Validator("HourlyRate", HourlyRate.VALIDATION_REGEX, HourlyRate::isValidHourlyRate,
+                    "$50", "$12.50", "$100.00", "50", "$12.5", "$12.505", "$", "$1,000"),
+            new Validator("SubjectLevel", SubjectLevel.VALIDATION_REGEX, SubjectLevel::isValidSubjectLevel,
+                    "P4-Math", "Sec1-English", "JC2-Chemistry", "P4Math", "P4-", "-Math", "P4-Math-Extra", "P4 -Math"),
+            new Validator("Tag", Tag.VALIDATION_REGEX, Tag::isValidTagName,
+                    "friends", "owesMoney", "Exams2025", "exam prep", "#1", "", "r\u00e9sum\u00e9", "A"),
+            new Validator("Address", Address.VALIDATION_REGEX, Address::isValidAddress,
+                    "Blk 30 Geylang Street 29, #06-40", "123, Jurong West Ave 6, #08-111", "a", " leading space",
+                    "", "line\nbreak", "Blk 47 Tampines Street 20, #17-35", "\tTab"));
+
+    /**
+     * Runs the comparison and prints one line per validator.
+     */
+    public static void main(String[] args) {
+        for (Validator validator : VALIDATORS) {
+            long oldValid = validator.countValid(value -> value.matches(validator.regex));
+            long newValid = validator.countValid(validator.scanner);
+            if (oldValid != newValid) {
+                throw new IllegalStateException(validator.name + " accepts different values than its regex");
+            }
+
+            double oldMillis = BenchmarkTimer.medianMillis(() -> validator.countValid(
+                    value -> value.matches(validator.regex)));
+            double newMillis = BenchmarkTimer.medianMillis(() -> validator.countValid(validator.scanner));
+            BenchmarkTimer.report(validator.name, oldMillis, newMillis);
+        }
+    }
+
+    /**
+     * A field validator together with the regex it replaced and the values to check.
+     */
+    private static class Validator {
+        private final String name;
+        private final String regex;
+        private final Predicate<String> scanner;
+        private final String[] values;
+
+        Validator(String name, String regex, Predicate<String> scanner, String... values) {
+            this.name = name;
+            this.regex = regex;
+            this.scanner = scanner;
+            this.values = values;
+        }
+
+        /**
+         * Checks {@link #CALLS_PER_ROUND} values, cycling through the sample values, and returns how many
+         * {@code isValid} accepts.
+         */
+        long countValid(Predicate<String> isValid) {
+            long count = 0;
+            for (int i = 0; i < CALLS_PER_ROUND; i++) {
+                if (isValid.test(values[i % values.length])) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
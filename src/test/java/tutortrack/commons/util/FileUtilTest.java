@@ -1,13 +1,23 @@
 package tutortrack.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutortrack.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,26 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_missingParentDirectory_writesFile() throws Exception {
+        Path file = testFolder.resolve("sub").resolve("data.txt");
+        FileUtil.writeToFileAtomically(file, out -> out.write("content".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("sub").resolve("data.txt.tmp")));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_keepsPreviousContent() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "previous");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+        assertEquals("previous", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("data.txt.tmp")));
+    }
+
 }
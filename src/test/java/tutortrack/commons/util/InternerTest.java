@@ -0,0 +1,39 @@
+package tutortrack.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static tutortrack.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String>().intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        Interner<String> interner = new Interner<>();
+        String first = new String("Covered Chapter 5");
+        String second = new String("Covered Chapter 5");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_keepsBoth() {
+        Interner<String> interner = new Interner<>();
+        String first = interner.intern("Fractions");
+        String second = interner.intern("Decimals");
+
+        assertSame(first, interner.intern(new String("Fractions")));
+        assertSame(second, interner.intern(new String("Decimals")));
+        assertEquals(2, interner.size());
+    }
+}
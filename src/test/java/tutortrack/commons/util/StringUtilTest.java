@@ -1,5 +1,6 @@
 package tutortrack.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutortrack.testutil.Assert.assertThrows;
@@ -223,4 +224,60 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for trimmedLength --------------------------------------
+
+    @Test
+    public void trimmedLength() {
+        assertThrows(NullPointerException.class, () -> StringUtil.trimmedLength(null));
+
+        String[] strings = {"", " ", " \t\n", "a", " a ", "\ta b\r", "\u00a0a"};
+        for (String s : strings) {
+            assertEquals(s.trim().length(), StringUtil.trimmedLength(s), s);
+        }
+    }
+
+    //---------------- Tests for character classes --------------------------------------
+
+    @Test
+    public void characterClasses_sameAsRegex() {
+        for (char c = 0; c < 0x3000; c++) {
+            String s = String.valueOf(c);
+            assertEquals(s.matches("\\p{Alnum}"), StringUtil.isAsciiAlphanumeric(c), s);
+            assertEquals(s.matches("\\d"), StringUtil.isAsciiDigit(c), s);
+            assertEquals(s.matches("\\s"), StringUtil.isRegexWhitespace(c), s);
+        }
+    }
+
+    //---------------- Tests for regionMatchesIgnoreAsciiCase --------------------------------------
+
+    @Test
+    public void regionMatchesIgnoreAsciiCase() {
+        assertThrows(NullPointerException.class, () -> StringUtil.regionMatchesIgnoreAsciiCase(null, 0, "a"));
+        assertThrows(NullPointerException.class, () -> StringUtil.regionMatchesIgnoreAsciiCase("a", 0, null));
+
+        assertTrue(StringUtil.regionMatchesIgnoreAsciiCase("Monday 1200", 0, "mONDAY"));
+        assertTrue(StringUtil.regionMatchesIgnoreAsciiCase("on Friday", 3, "friday"));
+        assertTrue(StringUtil.regionMatchesIgnoreAsciiCase("abc", 3, ""));
+
+        assertFalse(StringUtil.regionMatchesIgnoreAsciiCase("Mon", 0, "Monday")); // too short
+        assertFalse(StringUtil.regionMatchesIgnoreAsciiCase("abc", -1, "a")); // negative offset
+        assertFalse(StringUtil.regionMatchesIgnoreAsciiCase("Frıday", 0, "friday")); // not an ASCII letter
+    }
+
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+
+        assertEquals("alice tan", StringUtil.foldCase("ALICE Tan"));
+        assertEquals(StringUtil.foldCase("ǅ"), StringUtil.foldCase("ǆ")); // equal ignoring case
+
+        String[][] pairs = {{"Alice", "bob"}, {"alice", "ALICE"}, {"Zed", "alex"}, {"a_b", "A[B"}, {"Al", "alice"}};
+        for (String[] pair : pairs) {
+            assertEquals(Integer.signum(pair[0].compareToIgnoreCase(pair[1])),
+                    Integer.signum(StringUtil.foldCase(pair[0]).compareTo(StringUtil.foldCase(pair[1]))));
+        }
+    }
+
 }
@@ -0,0 +1,55 @@
+package tutortrack.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutortrack.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationResultTest {
+
+    @Test
+    public void invalid_nullMessage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationResult.invalid(null));
+    }
+
+    @Test
+    public void isValid() {
+        assertTrue(ValidationResult.VALID.isValid());
+        assertFalse(ValidationResult.invalid("error").isValid());
+    }
+
+    @Test
+    public void getErrorMessage() {
+        assertEquals("error", ValidationResult.invalid("error").getErrorMessage());
+        assertThrows(IllegalStateException.class, ValidationResult.VALID::getErrorMessage);
+    }
+
+    @Test
+    public void equals() {
+        ValidationResult result = ValidationResult.invalid("error");
+
+        // same values -> returns true
+        assertTrue(result.equals(ValidationResult.invalid("error")));
+
+        // same object -> returns true
+        assertTrue(result.equals(result));
+
+        // null -> returns false
+        assertFalse(result.equals(null));
+
+        // different types -> returns false
+        assertFalse(result.equals("error"));
+
+        // different values -> returns false
+        assertFalse(result.equals(ValidationResult.invalid("other error")));
+        assertFalse(result.equals(ValidationResult.VALID));
+        assertFalse(ValidationResult.VALID.equals(result));
+    }
+
+    @Test
+    public void hashCodeMethod() {
+        assertEquals(ValidationResult.invalid("error").hashCode(), ValidationResult.invalid("error").hashCode());
+    }
+}
@@ -1,6 +1,8 @@
 package tutortrack.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutortrack.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static tutortrack.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static tutortrack.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -16,7 +18,11 @@ import static tutortrack.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +38,7 @@ import tutortrack.model.ModelManager;
 import tutortrack.model.ReadOnlyAddressBook;
 import tutortrack.model.UserPrefs;
 import tutortrack.model.person.Person;
+import tutortrack.storage.BackgroundAddressBookSaver;
 import tutortrack.storage.JsonAddressBookStorage;
 import tutortrack.storage.JsonUserPrefsStorage;
 import tutortrack.storage.StorageManager;
@@ -89,6 +96,61 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandNotChangingData_skipsSave() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        LogicManager logicManager = createLogicManager(addressBookPath);
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+
+        assertFalse(Files.exists(addressBookPath));
+        assertEquals(0, logicManager.getSavesPerformed());
+        assertEquals(1, logicManager.getSavesSkipped());
+    }
+
+    @Test
+    public void execute_commandChangingData_savesOnce() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        LogicManager logicManager = createLogicManager(addressBookPath);
+
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + CONTACT_DESC_AMY + NOK_CONTACT_DESC_AMY
+                + SUBJECTLEVEL_DESC_AMY + DAYTIME_DESC_AMY + HOURLYRATE_DESC_AMY + ADDRESS_DESC_AMY);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+
+        assertTrue(Files.exists(addressBookPath));
+        assertEquals(1, logicManager.getSavesPerformed());
+        assertEquals(1, logicManager.getSavesSkipped());
+    }
+
+    @Test
+    public void execute_storageThrowsIoExceptionInBackground_reportsErrorAndRetries() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        LogicManager logicManager = new LogicManager(model, storage, saver);
+        List<String> reported = new ArrayList<>();
+        logicManager.setSaveErrorHandler(reported::add);
+
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + CONTACT_DESC_AMY + NOK_CONTACT_DESC_AMY
+                + SUBJECTLEVEL_DESC_AMY + DAYTIME_DESC_AMY + HOURLYRATE_DESC_AMY + ADDRESS_DESC_AMY);
+        saver.flush();
+        assertEquals(Collections.singletonList(String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())), reported);
+
+        // The unchanged address book is saved again after the next command
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        saver.flush();
+        assertEquals(2, logicManager.getSavesPerformed());
+        assertEquals(2, reported.size());
+        saver.shutdown();
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -147,6 +209,12 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    private LogicManager createLogicManager(Path addressBookPath) {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        return new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
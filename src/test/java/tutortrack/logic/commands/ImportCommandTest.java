@@ -0,0 +1,192 @@
+package tutortrack.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutortrack.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutortrack.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutortrack.testutil.Assert.assertThrows;
+import static tutortrack.testutil.TypicalPersons.ALICE;
+import static tutortrack.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutortrack.logic.commands.exceptions.CommandException;
+import tutortrack.logic.parser.PersonCsvParser;
+import tutortrack.model.Model;
+import tutortrack.model.ModelManager;
+import tutortrack.model.UserPrefs;
+import tutortrack.model.person.HourlyRate;
+import tutortrack.model.person.Person;
+import tutortrack.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "name,selfContact,subjectLevel,dayTime,hourlyRate,address,tags,lessonPlans";
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_validRows_allImported() throws Exception {
+        Path filePath = writeCsv(HEADER,
+                "Amy Bee,91234567,P4-Math,Monday 1200,$50,Blk 1,friends,2025-01-03|Decimals",
+                "",
+                "Bob Choo,92345678,P5-Science,Tuesday 1600,$60,\"Blk 2, Clementi\",,");
+        Person amy = withoutNokContact(new PersonBuilder().withName("Amy Bee").withSelfContact("91234567")
+                .withSubjectLevel("P4-Math").withDayTime("Monday 1200").withHourlyRate("$50").withAddress("Blk 1")
+                .withTags("friends").build());
+        Person bob = withoutNokContact(new PersonBuilder().withName("Bob Choo").withSelfContact("92345678")
+                .withSubjectLevel("P5-Science").withDayTime("Tuesday 1600").withHourlyRate("$60")
+                .withAddress("Blk 2, Clementi").withTags().build());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPersons(List.of(amy, bob));
+
+        assertCommandSuccess(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), expectedModel);
+        Person importedAmy = model.getFilteredPersonList().get(model.getFilteredPersonList().size() - 2);
+        assertTrue(importedAmy.hasPlanOnDate(LocalDate.of(2025, 1, 3)));
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_skippedAndReported() throws Exception {
+        Path filePath = writeCsv(HEADER,
+                "Amy Bee,91234567,P4-Math,Monday 1200,$50,Blk 1,,",
+                "Alice Pauline,94351253,P4-Math,Monday 1200,$50,Blk 1,,",
+                "Amy Bee,91234567,P6-Math,Friday 1200,$70,Blk 9,,",
+                "Cat Dee,93456789,P4-Math,Monday 1200,50,Blk 1,,");
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1, filePath) + "\n"
+                + String.format(ImportCommand.MESSAGE_ROWS_SKIPPED, 3) + "\n"
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 3, AddCommand.MESSAGE_DUPLICATE_PERSON) + "\n"
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, ImportCommand.MESSAGE_DUPLICATE_ROW) + "\n"
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 5,
+                        HourlyRate.MESSAGE_MISSING_DOLLAR);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 1, model.getAddressBook().getPersonList().size());
+        assertTrue(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void execute_manyRows_parsedInParallelAndReportedInOrder() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        int rowCount = ImportCommand.MIN_PARALLEL_ROWS * 2;
+        for (int i = 0; i < rowCount; i++) {
+            String hourlyRate = i % 100 == 0 ? "oops" : "$50";
+            lines.add(String.format("Student %d,9%07d,P4-Math,Monday 1200,%s,Blk 1,,", i, i, hourlyRate));
+        }
+        Path filePath = writeCsv(lines.toArray(new String[0]));
+        Model emptyModel = new ModelManager();
+
+        String feedback = new ImportCommand(filePath).execute(emptyModel).getFeedbackToUser();
+
+        int invalidRows = (rowCount + 99) / 100;
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, rowCount - invalidRows, filePath)));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR, 2, "")));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR, 102, "")));
+        assertEquals("Student 1", emptyModel.getFilteredPersonList().get(0).getName().fullName);
+        assertEquals("Student " + (rowCount - 1), emptyModel.getFilteredPersonList()
+                .get(rowCount - invalidRows - 1).getName().fullName);
+    }
+
+    @Test
+    public void execute_rowsInSeveralBatches_duplicatesFoundAcrossBatches() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        int rowCount = ImportCommand.ROW_BATCH_SIZE + 10;
+        for (int i = 0; i < rowCount; i++) {
+            lines.add(String.format("Student %d,9%07d,P4-Math,Monday 1200,$50,Blk 1,,", i, i));
+        }
+        // repeats the first row in the second batch
+        lines.add(lines.get(1));
+        Path filePath = writeCsv(lines.toArray(new String[0]));
+        Model emptyModel = new ModelManager();
+
+        String feedback = new ImportCommand(filePath).execute(emptyModel).getFeedbackToUser();
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, rowCount, filePath) + "\n"
+                + String.format(ImportCommand.MESSAGE_ROWS_SKIPPED, 1) + "\n"
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, rowCount + 2, ImportCommand.MESSAGE_DUPLICATE_ROW);
+        assertEquals(expectedMessage, feedback);
+        assertEquals(rowCount, emptyModel.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_tooManyErrors_listsOnlySome() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        int rowCount = ImportCommand.MAX_REPORTED_ERRORS + 3;
+        for (int i = 0; i < rowCount; i++) {
+            lines.add("Nameless");
+        }
+        Path filePath = writeCsv(lines.toArray(new String[0]));
+
+        String feedback = new ImportCommand(filePath).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_ROWS_SKIPPED, 3)));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_unreadableOrInvalidFile_throwsCommandException() throws Exception {
+        Path missingFile = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(missingFile), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, missingFile));
+
+        assertThrows(CommandException.class, () -> new ImportCommand(testFolder).execute(model));
+
+        Path emptyFile = writeCsv();
+        assertCommandFailure(new ImportCommand(emptyFile), model,
+                String.format(ImportCommand.MESSAGE_EMPTY_FILE, emptyFile));
+
+        Path badHeaderFile = writeCsv("name,email");
+        assertCommandFailure(new ImportCommand(badHeaderFile), model,
+                String.format(PersonCsvParser.MESSAGE_UNKNOWN_COLUMN, "email"));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Path.of("a.csv"));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Path.of("a.csv"))));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Path.of("b.csv"))));
+    }
+
+    private static Person withoutNokContact(Person person) {
+        return new Person(person.getName(), person.getSelfContact(), null, person.getSubjectLevel(),
+                person.getDayTime(), person.getHourlyRate(), person.getAddress(), person.getTags());
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path filePath = Files.createTempFile(testFolder, "students", ".csv");
+        Files.write(filePath, List.of(lines));
+        return filePath;
+    }
+}
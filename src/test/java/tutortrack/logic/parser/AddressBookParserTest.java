@@ -7,6 +7,7 @@ import static tutortrack.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static tutortrack.testutil.Assert.assertThrows;
 import static tutortrack.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -23,6 +24,7 @@ import tutortrack.logic.commands.EditCommand;
 import tutortrack.logic.commands.ExitCommand;
 import tutortrack.logic.commands.FindCommand;
 import tutortrack.logic.commands.HelpCommand;
+import tutortrack.logic.commands.ImportCommand;
 import tutortrack.logic.commands.ListCommand;
 import tutortrack.logic.commands.ViewLessonsCommand;
 import tutortrack.logic.parser.exceptions.ParseException;
@@ -43,6 +45,12 @@ public class AddressBookParserTest {
         assertEquals(new AddCommand(person), command);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " students.csv");
+        assertEquals(new ImportCommand(Paths.get("students.csv")), command);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
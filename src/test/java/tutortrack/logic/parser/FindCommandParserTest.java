@@ -1,9 +1,9 @@
 package tutortrack.logic.parser;
 
+import static tutortrack.logic.Messages.MESSAGE_FIND_ALTERNATIVE_WITHOUT_PREFIX;
 import static tutortrack.logic.Messages.MESSAGE_FIND_DUPLICATE_DAY;
 import static tutortrack.logic.Messages.MESSAGE_FIND_DUPLICATE_SUBJECT;
 import static tutortrack.logic.Messages.MESSAGE_FIND_DUPLICATE_TAG;
-import static tutortrack.logic.Messages.MESSAGE_FIND_MULTIPLE_PREFIXES;
 import static tutortrack.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutortrack.logic.Messages.MESSAGE_INVALID_DAY;
 import static tutortrack.logic.parser.CommandParserTestUtil.assertParseFailure;
@@ -14,6 +14,8 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import tutortrack.logic.commands.FindCommand;
+import tutortrack.model.person.AnySearchPredicate;
+import tutortrack.model.person.CombinedSearchPredicate;
 import tutortrack.model.person.LessonDayPredicate;
 import tutortrack.model.person.NameContainsKeywordsPredicate;
 import tutortrack.model.person.SubjectLevelMatchesPredicate;
@@ -147,14 +149,56 @@ public class FindCommandParserTest {
         assertParseFailure(parser, "alice s/S2-Science", expectedMessage);
     }
 
-    // EP: Multiple different prefixes used together (invalid)
+    // EP: Multiple different prefixes used together (combined search)
     @Test
-    public void parse_multiplePrefixes_throwsParseException() {
-        // Should reject when multiple different prefixes are used together
-        assertParseFailure(parser, " t/friends d/Monday", MESSAGE_FIND_MULTIPLE_PREFIXES);
-        assertParseFailure(parser, " d/Tuesday s/P4-Math", MESSAGE_FIND_MULTIPLE_PREFIXES);
-        assertParseFailure(parser, " s/Sec1-English t/exams", MESSAGE_FIND_MULTIPLE_PREFIXES);
-        assertParseFailure(parser, " t/friends d/Monday s/P4-Math", MESSAGE_FIND_MULTIPLE_PREFIXES);
+    public void parse_multiplePrefixes_returnsCombinedFindCommand() {
+        LessonDayPredicate monday = new LessonDayPredicate("Monday");
+        SubjectLevelMatchesPredicate p6Math = new SubjectLevelMatchesPredicate("P6-Math");
+        TagContainsKeywordsPredicate exams = new TagContainsKeywordsPredicate(Arrays.asList("Exams", "tests"));
+
+        // with a day, results are sorted by time
+        FindCommand expectedFindCommand = new FindCommand(
+                new CombinedSearchPredicate(Arrays.asList(monday, p6Math, exams)), monday.getComparator());
+        assertParseSuccess(parser, " t/Exams tests d/Monday s/P6-Math", expectedFindCommand);
+
+        // without a day, results are not sorted
+        expectedFindCommand = new FindCommand(new CombinedSearchPredicate(Arrays.asList(p6Math, exams)));
+        assertParseSuccess(parser, " s/P6-Math t/Exams tests", expectedFindCommand);
+
+        // each value is still validated
+        assertParseFailure(parser, " t/Exams d/Mon", MESSAGE_INVALID_DAY);
+    }
+
+    // EP: Searches separated by | (any of them)
+    @Test
+    public void parse_alternatives_returnsAnyFindCommand() {
+        LessonDayPredicate monday = new LessonDayPredicate("Monday");
+        SubjectLevelMatchesPredicate p6Math = new SubjectLevelMatchesPredicate("P6-Math");
+        TagContainsKeywordsPredicate exams = new TagContainsKeywordsPredicate(Arrays.asList("Exams"));
+
+        FindCommand expectedFindCommand = new FindCommand(new AnySearchPredicate(Arrays.asList(
+                new CombinedSearchPredicate(Arrays.asList(monday, p6Math)),
+                new CombinedSearchPredicate(Arrays.asList(exams)))));
+        assertParseSuccess(parser, " d/Monday s/P6-Math | t/Exams", expectedFindCommand);
+        assertParseSuccess(parser, " s/P6-Math d/Monday|t/Exams ", expectedFindCommand);
+
+        // the same prefix may be used once in each alternative
+        expectedFindCommand = new FindCommand(new AnySearchPredicate(Arrays.asList(
+                new CombinedSearchPredicate(Arrays.asList(monday)),
+                new CombinedSearchPredicate(Arrays.asList(new LessonDayPredicate("Tuesday"))))));
+        assertParseSuccess(parser, " d/Monday | d/Tuesday", expectedFindCommand);
+    }
+
+    // EP: Alternative without prefixes (invalid)
+    @Test
+    public void parse_alternativeWithoutPrefix_throwsParseException() {
+        assertParseFailure(parser, " t/Exams | alice", MESSAGE_FIND_ALTERNATIVE_WITHOUT_PREFIX);
+        assertParseFailure(parser, " t/Exams |", MESSAGE_FIND_ALTERNATIVE_WITHOUT_PREFIX);
+        assertParseFailure(parser, " | d/Monday", MESSAGE_FIND_ALTERNATIVE_WITHOUT_PREFIX);
+
+        // each alternative is still validated
+        assertParseFailure(parser, " t/Exams | d/Mon", MESSAGE_INVALID_DAY);
+        assertParseFailure(parser, " t/Exams | t/a t/b", MESSAGE_FIND_DUPLICATE_TAG);
     }
 
     // EP: Duplicate tag prefix (invalid)
@@ -0,0 +1,94 @@
+package tutortrack.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static tutortrack.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutortrack.logic.parser.exceptions.ParseException;
+import tutortrack.model.lesson.LessonPlan;
+import tutortrack.model.lesson.LessonProgress;
+import tutortrack.model.person.Person;
+import tutortrack.model.person.SubjectLevel;
+import tutortrack.testutil.PersonBuilder;
+
+public class PersonCsvParserTest {
+
+    private static final String HEADER =
+            "name,selfContact,nokContact,subjectLevel,dayTime,hourlyRate,address,tags,lessonPlans,lessonProgress";
+
+    @Test
+    public void constructor_invalidHeader_throwsParseException() {
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_UNKNOWN_COLUMN, "email"), () ->
+                new PersonCsvParser(HEADER + ",email"));
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_DUPLICATE_COLUMN, "name"), () ->
+                new PersonCsvParser(HEADER + ",Name"));
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_MISSING_COLUMNS,
+                "name, subjectLevel, dayTime, hourlyRate, address"), () ->
+                new PersonCsvParser("name,selfContact,subjectLevel,dayTime,hourlyRate"));
+    }
+
+    @Test
+    public void parseRow_allColumns_success() throws Exception {
+        PersonCsvParser parser = new PersonCsvParser(HEADER);
+        Person person = parser.parseRow("Amy Bee,91234567,,P4-Math,Monday 1200,$50,"
+                + "\"Blk 1, \"\"Clementi\"\" Ave\",friends;exams,"
+                + "2025-01-10|Fractions;2025-01-03|Decimals,2025-01-03|Done");
+
+        Person built = new PersonBuilder().withName("Amy Bee").withSelfContact("91234567")
+                .withSubjectLevel("P4-Math").withDayTime("Monday 1200").withHourlyRate("$50")
+                .withAddress("Blk 1, \"Clementi\" Ave").withTags("friends", "exams").build();
+        Person expected = new Person(built.getName(), built.getSelfContact(), null, built.getSubjectLevel(),
+                built.getDayTime(), built.getHourlyRate(), built.getAddress(), built.getTags());
+        assertEquals(expected, person);
+        assertEquals(Arrays.asList(new LessonPlan(LocalDate.of(2025, 1, 3), "Decimals"),
+                new LessonPlan(LocalDate.of(2025, 1, 10), "Fractions")), person.getLessonPlanList());
+        assertEquals(Arrays.asList(new LessonProgress(LocalDate.of(2025, 1, 3), "Done")),
+                person.getLessonProgressList());
+    }
+
+    @Test
+    public void parseRow_columnsInOtherOrderAndCase_success() throws Exception {
+        PersonCsvParser parser = new PersonCsvParser("\uFEFFAddress, HOURLYRATE,dayTime,subjectlevel,nokContact,name");
+        Person person = parser.parseRow("Blk 2,$60,Tuesday 1600,P5-Science,81234567,Bob Choo");
+
+        assertEquals("Bob Choo", person.getName().fullName);
+        assertEquals(new SubjectLevel("P5-Science"), person.getSubjectLevel());
+        assertEquals("81234567", person.getNokContact().value);
+        assertNull(person.getSelfContact());
+    }
+
+    @Test
+    public void parseRow_invalidRow_throwsParseException() throws Exception {
+        PersonCsvParser parser = new PersonCsvParser(HEADER);
+
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_WRONG_FIELD_COUNT, 10, 3), () ->
+                parser.parseRow("Amy Bee,91234567,P4-Math"));
+        assertThrows(ParseException.class, AddCommandParser.MESSAGE_MISSING_CONTACT, () ->
+                parser.parseRow("Amy Bee,,,P4-Math,Monday 1200,$50,Blk 1,,,"));
+        assertThrows(ParseException.class, AddCommandParser.MESSAGE_SAME_CONTACTS, () ->
+                parser.parseRow("Amy Bee,91234567,91234567,P4-Math,Monday 1200,$50,Blk 1,,,"));
+        assertThrows(ParseException.class, SubjectLevel.MESSAGE_INVALID_FORMAT, () ->
+                parser.parseRow("Amy Bee,91234567,,P4 Math,Monday 1200,$50,Blk 1,,,"));
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_DUPLICATE_LESSON_DATE,
+                "lesson plan", "2025-01-03"), () ->
+                parser.parseRow("Amy Bee,91234567,,P4-Math,Monday 1200,$50,Blk 1,,2025-01-03|A;2025-01-03|B,"));
+    }
+
+    @Test
+    public void splitFields() throws Exception {
+        assertEquals(List.of(""), PersonCsvParser.splitFields(""));
+        assertEquals(List.of("a", "", "c", ""), PersonCsvParser.splitFields("a,,c,"));
+        assertEquals(List.of("a,b", "say \"hi\"", ""), PersonCsvParser.splitFields("\"a,b\",\"say \"\"hi\"\"\",\"\""));
+
+        assertThrows(ParseException.class, PersonCsvParser.MESSAGE_UNCLOSED_QUOTE, () ->
+                PersonCsvParser.splitFields("\"a,b"));
+        assertThrows(ParseException.class, PersonCsvParser.MESSAGE_TEXT_AFTER_QUOTE, () ->
+                PersonCsvParser.splitFields("\"a\"b,c"));
+    }
+}
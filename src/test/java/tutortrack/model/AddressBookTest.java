@@ -13,12 +13,20 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import tutortrack.model.person.AnySearchPredicate;
+import tutortrack.model.person.CombinedSearchPredicate;
+import tutortrack.model.person.LessonDayPredicate;
+import tutortrack.model.person.NameContainsKeywordsPredicate;
 import tutortrack.model.person.Person;
+import tutortrack.model.person.SubjectLevelMatchesPredicate;
+import tutortrack.model.person.TagContainsKeywordsPredicate;
 import tutortrack.model.person.exceptions.DuplicatePersonException;
 import tutortrack.testutil.PersonBuilder;
 
@@ -54,6 +62,38 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getVersion_afterEachChange_increases() {
+        long version = addressBook.getVersion();
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+        version = addressBook.getVersion();
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getVersion() > version);
+        version = addressBook.getVersion();
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getVersion() > version);
+        version = addressBook.getVersion();
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_withoutChange_unchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+
+        assertEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -78,6 +118,94 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void findPersons_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.findPersons(null));
+    }
+
+    @Test
+    public void findPersons_nameSearch_sameAsScanningAllPersons() {
+        addressBook.resetData(getTypicalAddressBook());
+        for (List<String> keywords : Arrays.asList(Arrays.asList("meier"), Arrays.asList("ELLE", "ku"),
+                Arrays.asList("x"), Arrays.asList("al", "alice"))) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            List<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toList());
+            assertEquals(expected, addressBook.findPersons(predicate));
+        }
+    }
+
+    @Test
+    public void findPersons_tagSearch_sameAsScanningAllPersons() {
+        addressBook.resetData(getTypicalAddressBook());
+        for (List<String> keywords : Arrays.asList(Arrays.asList("friends"), Arrays.asList("OWESMONEY", "x"),
+                Arrays.asList("friend"))) {
+            TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(keywords);
+            List<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toList());
+            assertEquals(expected, addressBook.findPersons(predicate));
+        }
+    }
+
+    @Test
+    public void findPersons_daySearch_sameAsScanningAndSorting() {
+        addressBook.resetData(getTypicalAddressBook());
+        for (String day : Arrays.asList("Monday", "tuesday", "Wednesday", "Mon")) {
+            LessonDayPredicate predicate = new LessonDayPredicate(day);
+            List<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .sorted(predicate.getComparator()).collect(Collectors.toList());
+            assertEquals(expected, addressBook.findPersons(predicate));
+        }
+    }
+
+    @Test
+    public void findPersons_subjectLevelSearch_sameAsScanningAllPersons() {
+        addressBook.resetData(getTypicalAddressBook());
+        for (String subject : Arrays.asList("P4-Math", "p1-chinese", "P9-Art")) {
+            SubjectLevelMatchesPredicate predicate = new SubjectLevelMatchesPredicate(subject);
+            List<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toList());
+            assertEquals(expected, addressBook.findPersons(predicate));
+        }
+    }
+
+    @Test
+    public void findPersons_combinedSearch_sameAsScanningAllPersons() {
+        addressBook.resetData(getTypicalAddressBook());
+        List<List<Predicate<Person>>> searches = Arrays.asList(
+                Arrays.asList(new LessonDayPredicate("Monday"), new TagContainsKeywordsPredicate(List.of("friends"))),
+                Arrays.asList(new TagContainsKeywordsPredicate(List.of("friends")),
+                        new SubjectLevelMatchesPredicate("P5-Math"), new NameContainsKeywordsPredicate(List.of("b"))),
+                Arrays.asList(new LessonDayPredicate("Sunday"), new SubjectLevelMatchesPredicate("P4-Math")),
+                Arrays.asList(new LessonDayPredicate("Monday"), person -> person.getHourlyRate().getCents() < 5500),
+                Arrays.asList(person -> true, person -> !person.getTags().isEmpty()));
+        for (List<Predicate<Person>> criteria : searches) {
+            CombinedSearchPredicate predicate = new CombinedSearchPredicate(criteria);
+            List<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toList());
+            assertEquals(expected, addressBook.findPersons(predicate));
+        }
+    }
+
+    @Test
+    public void findPersons_anySearch_sameAsScanningAllPersons() {
+        addressBook.resetData(getTypicalAddressBook());
+        AnySearchPredicate predicate = new AnySearchPredicate(Arrays.asList(
+                new CombinedSearchPredicate(Arrays.asList(new LessonDayPredicate("Monday"),
+                        new SubjectLevelMatchesPredicate("P5-Math"))),
+                new CombinedSearchPredicate(Arrays.asList(new TagContainsKeywordsPredicate(List.of("friends")))),
+                new CombinedSearchPredicate(Arrays.asList(new LessonDayPredicate("Sunday")))));
+        List<Person> expected = addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList());
+        assertEquals(expected, addressBook.findPersons(predicate));
+    }
+
+    @Test
+    public void findPersons_otherPredicate_returnsMatchesInOrder() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(addressBook.getPersonList(), addressBook.findPersons(person -> true));
+        assertEquals(Collections.singletonList(ALICE), addressBook.findPersons(ALICE::equals));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -7,15 +7,26 @@ import static tutortrack.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static tutortrack.testutil.Assert.assertThrows;
 import static tutortrack.testutil.TypicalPersons.ALICE;
 import static tutortrack.testutil.TypicalPersons.BENSON;
+import static tutortrack.testutil.TypicalPersons.DANIEL;
+import static tutortrack.testutil.TypicalPersons.HOON;
+import static tutortrack.testutil.TypicalPersons.IDA;
+import static tutortrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static tutortrack.testutil.TypicalPersons.getTypicalPersons;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import tutortrack.commons.core.GuiSettings;
 import tutortrack.model.person.NameContainsKeywordsPredicate;
+import tutortrack.model.person.Person;
+import tutortrack.model.person.exceptions.DuplicatePersonException;
 import tutortrack.testutil.AddressBookBuilder;
 
 public class ModelManagerTest {
@@ -88,11 +99,61 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void addPersons_filteredList_addsAllAndShowsAllPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(person -> false);
+
+        modelManager.addPersons(Arrays.asList(BENSON, DANIEL));
+
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), modelManager.getFilteredPersonList());
+        assertThrows(DuplicatePersonException.class, () -> modelManager.addPersons(Arrays.asList(HOON, ALICE)));
+        assertFalse(modelManager.hasPerson(HOON));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void showSearchResult_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.showSearchResult(null));
+        assertThrows(NullPointerException.class, () -> modelManager.showSearchResult(null, (a, b) -> 0));
+        assertThrows(NullPointerException.class, () -> modelManager.showSearchResult(unused -> true, null));
+    }
+
+    @Test
+    public void showSearchResult_matches_showsSortedMatchesAfterOneEvaluationEach() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Person> tested = new ArrayList<>();
+        Predicate<Person> predicate = person -> {
+            tested.add(person);
+            return person.getName().fullName.contains("Meier");
+        };
+
+        List<Person> matches = modelManager.showSearchResult(predicate,
+                Comparator.comparing(person -> person.getName().fullName, Comparator.reverseOrder()));
+
+        assertEquals(Arrays.asList(BENSON, DANIEL), matches);
+        assertEquals(Arrays.asList(DANIEL, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(getTypicalPersons(), tested);
+
+        // persons edited after the search are tested with the search predicate
+        modelManager.setPerson(ALICE, HOON);
+        modelManager.setPerson(BENSON, IDA);
+        assertEquals(Arrays.asList(HOON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void showSearchResult_noMatches_filteredListUnchanged() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(person -> person.equals(ALICE));
+
+        assertTrue(modelManager.showSearchResult(unused -> false).isEmpty());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,76 @@
+package tutortrack.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutortrack.testutil.Assert.assertThrows;
+import static tutortrack.testutil.TypicalPersons.ALICE;
+import static tutortrack.testutil.TypicalPersons.BENSON;
+import static tutortrack.testutil.TypicalPersons.HOON;
+import static tutortrack.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutortrack.model.person.NameContainsKeywordsPredicate;
+import tutortrack.model.person.Person;
+import tutortrack.model.person.SubjectLevelMatchesPredicate;
+
+public class SearchResultCacheTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new SearchResultCache(null, 1));
+        assertThrows(IllegalArgumentException.class, SearchResultCache.MESSAGE_INVALID_CAPACITY, () ->
+                new SearchResultCache(addressBook, 0));
+    }
+
+    @Test
+    public void findPersons_equalPredicate_hit() {
+        SearchResultCache cache = new SearchResultCache(addressBook, SearchResultCache.DEFAULT_CAPACITY);
+
+        List<Person> first = cache.findPersons(new SubjectLevelMatchesPredicate("P4-Math"));
+        List<Person> second = cache.findPersons(new SubjectLevelMatchesPredicate("p4-math"));
+
+        assertEquals(Arrays.asList(ALICE), first);
+        assertEquals(first, second);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertThrows(UnsupportedOperationException.class, () -> second.add(BENSON));
+    }
+
+    @Test
+    public void findPersons_addressBookChanged_searchesAgain() {
+        SearchResultCache cache = new SearchResultCache(addressBook, SearchResultCache.DEFAULT_CAPACITY);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Hoon"));
+
+        assertEquals(List.of(), cache.findPersons(predicate));
+        addressBook.addPerson(HOON);
+
+        assertEquals(Arrays.asList(HOON), cache.findPersons(predicate));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void findPersons_overCapacity_evictsLeastRecentlyUsed() {
+        SearchResultCache cache = new SearchResultCache(addressBook, 2);
+        NameContainsKeywordsPredicate alice = new NameContainsKeywordsPredicate(Arrays.asList("Alice"));
+        NameContainsKeywordsPredicate benson = new NameContainsKeywordsPredicate(Arrays.asList("Benson"));
+        NameContainsKeywordsPredicate carl = new NameContainsKeywordsPredicate(Arrays.asList("Carl"));
+
+        cache.findPersons(alice);
+        cache.findPersons(benson);
+        cache.findPersons(alice); // benson is now the least recently used
+        cache.findPersons(carl);
+        assertEquals(1, cache.getHitCount());
+
+        cache.findPersons(alice);
+        assertEquals(2, cache.getHitCount());
+        cache.findPersons(benson);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+    }
+}
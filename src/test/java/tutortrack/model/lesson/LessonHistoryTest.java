@@ -0,0 +1,116 @@
+package tutortrack.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutortrack.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class LessonHistoryTest {
+
+    private static final LocalDate DAY_ONE = LocalDate.of(2025, 1, 1);
+    private static final LessonPlan PLAN_ONE = new LessonPlan(DAY_ONE, "Fractions");
+    private static final LessonPlan PLAN_TWO = new LessonPlan(DAY_ONE.plusDays(1), "Decimals");
+    private static final LessonPlan PLAN_THREE = new LessonPlan(DAY_ONE.plusDays(2), "Percentages");
+
+    @Test
+    public void with_outOfOrder_orderedByDate() {
+        LessonHistory<LessonPlan> history = LessonHistory.<LessonPlan>empty()
+                .with(PLAN_THREE).with(PLAN_ONE).with(PLAN_TWO);
+
+        assertEquals(List.of(PLAN_ONE, PLAN_TWO, PLAN_THREE), history.toList());
+        assertEquals(3, history.size());
+        assertEquals(Optional.of(PLAN_TWO), history.getItemOn(PLAN_TWO.getDate()));
+    }
+
+    @Test
+    public void with_sameDate_replacesItem() {
+        LessonPlan replacement = new LessonPlan(DAY_ONE, "Ratios");
+        LessonHistory<LessonPlan> history = LessonHistory.<LessonPlan>empty().with(PLAN_ONE).with(replacement);
+
+        assertEquals(List.of(replacement), history.toList());
+    }
+
+    @Test
+    public void withAndWithout_earlierVersionsUnchanged() {
+        LessonHistory<LessonPlan> original = LessonHistory.<LessonPlan>empty().with(PLAN_ONE).with(PLAN_TWO);
+        LessonHistory<LessonPlan> added = original.with(PLAN_THREE);
+        LessonHistory<LessonPlan> removed = added.without(DAY_ONE);
+
+        assertEquals(List.of(PLAN_ONE, PLAN_TWO), original.toList());
+        assertEquals(List.of(PLAN_ONE, PLAN_TWO, PLAN_THREE), added.toList());
+        assertEquals(List.of(PLAN_TWO, PLAN_THREE), removed.toList());
+    }
+
+    @Test
+    public void without_missingDate_returnsSameHistory() {
+        LessonHistory<LessonPlan> history = LessonHistory.<LessonPlan>empty().with(PLAN_ONE);
+
+        assertSame(history, history.without(PLAN_TWO.getDate()));
+        assertTrue(history.without(DAY_ONE).isEmpty());
+        assertFalse(history.without(DAY_ONE).hasItemOn(DAY_ONE));
+    }
+
+    @Test
+    public void between_validRange_returnsItemsInRange() {
+        LessonHistory<LessonPlan> history = LessonHistory.<LessonPlan>empty()
+                .with(PLAN_ONE).with(PLAN_TWO).with(PLAN_THREE);
+
+        assertEquals(List.of(PLAN_TWO, PLAN_THREE), history.between(PLAN_TWO.getDate(), DAY_ONE.plusDays(10)));
+        assertEquals(List.of(PLAN_ONE), history.between(DAY_ONE, DAY_ONE));
+        assertThrows(IllegalArgumentException.class, LessonHistory.MESSAGE_INVALID_RANGE, () ->
+                history.between(PLAN_TWO.getDate(), DAY_ONE));
+    }
+
+    @Test
+    public void withAndWithout_manyItems_matchesSortedMap() {
+        Random random = new Random(2025);
+        TreeMap<LocalDate, LessonProgress> expected = new TreeMap<>();
+        LessonHistory<LessonProgress> history = LessonHistory.empty();
+        List<Integer> offsets = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            offsets.add(i);
+        }
+        Collections.shuffle(offsets, random);
+
+        for (int offset : offsets) {
+            LessonProgress progress = new LessonProgress(DAY_ONE.plusDays(offset), "Lesson " + offset);
+            expected.put(progress.getDate(), progress);
+            history = history.with(progress);
+        }
+        for (int i = 0; i < 250; i++) {
+            LocalDate date = DAY_ONE.plusDays(random.nextInt(500));
+            expected.remove(date);
+            history = history.without(date);
+        }
+
+        assertEquals(new ArrayList<>(expected.values()), history.toList());
+        assertEquals(expected.size(), history.size());
+    }
+
+    @Test
+    public void equals() {
+        LessonHistory<LessonPlan> history = LessonHistory.<LessonPlan>empty().with(PLAN_ONE).with(PLAN_TWO);
+
+        // same items added in a different order -> returns true
+        LessonHistory<LessonPlan> reordered = LessonHistory.<LessonPlan>empty().with(PLAN_TWO).with(PLAN_ONE);
+        assertTrue(history.equals(reordered));
+        assertEquals(history.hashCode(), reordered.hashCode());
+
+        // different items -> returns false
+        assertFalse(history.equals(history.with(PLAN_THREE)));
+
+        // null -> returns false
+        assertFalse(history.equals(null));
+    }
+}
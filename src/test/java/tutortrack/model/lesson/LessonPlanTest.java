@@ -1,5 +1,6 @@
 package tutortrack.model.lesson;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static tutortrack.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
@@ -16,4 +17,13 @@ public class LessonPlanTest {
     void constructor_nullPlan_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new LessonPlan(LocalDate.now(), null));
     }
+
+    @Test
+    void constructor_validArguments_storesDate() {
+        LocalDate date = LocalDate.of(2025, 10, 12);
+        LessonPlan plan = new LessonPlan(date, "Covered Chapter 5");
+
+        assertEquals(date, plan.getDate());
+        assertEquals(date.toEpochDay(), plan.getEpochDay());
+    }
 }
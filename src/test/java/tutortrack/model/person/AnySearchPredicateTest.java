@@ -0,0 +1,80 @@
+package tutortrack.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutortrack.testutil.Assert.assertThrows;
+import static tutortrack.testutil.TypicalPersons.ALICE;
+import static tutortrack.testutil.TypicalPersons.CARL;
+import static tutortrack.testutil.TypicalPersons.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class AnySearchPredicateTest {
+
+    private final List<CombinedSearchPredicate> mondayFriendsOrChinese = Arrays.asList(
+            new CombinedSearchPredicate(Arrays.asList(new LessonDayPredicate("Monday"),
+                    new TagContainsKeywordsPredicate(Collections.singletonList("friends")))),
+            new CombinedSearchPredicate(Arrays.asList(new SubjectLevelMatchesPredicate("P1-Chinese"))));
+
+    @Test
+    public void constructor_nullAlternative_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AnySearchPredicate(null));
+        assertThrows(NullPointerException.class, () -> new AnySearchPredicate(Arrays.asList(
+                mondayFriendsOrChinese.get(0), null)));
+    }
+
+    @Test
+    public void equals() {
+        AnySearchPredicate predicate = new AnySearchPredicate(mondayFriendsOrChinese);
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // same alternatives -> returns true
+        AnySearchPredicate predicateCopy = new AnySearchPredicate(Arrays.asList(mondayFriendsOrChinese.get(0),
+                new CombinedSearchPredicate(Arrays.asList(new SubjectLevelMatchesPredicate("P1-Chinese")))));
+        assertTrue(predicate.equals(predicateCopy));
+        assertEquals(predicate.hashCode(), predicateCopy.hashCode());
+
+        // different types -> returns false
+        assertFalse(predicate.equals(1));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different alternatives -> returns false
+        assertFalse(predicate.equals(new AnySearchPredicate(mondayFriendsOrChinese.subList(0, 1))));
+    }
+
+    @Test
+    public void test_matchesAnyAlternative_returnsTrue() {
+        AnySearchPredicate predicate = new AnySearchPredicate(mondayFriendsOrChinese);
+
+        // first alternative
+        assertTrue(predicate.test(ALICE));
+
+        // second alternative
+        assertTrue(predicate.test(CARL));
+    }
+
+    @Test
+    public void test_matchesNoAlternative_returnsFalse() {
+        assertFalse(new AnySearchPredicate(mondayFriendsOrChinese).test(ELLE));
+
+        // no alternatives
+        assertFalse(new AnySearchPredicate(Collections.emptyList()).test(ALICE));
+    }
+
+    @Test
+    public void toStringMethod() {
+        AnySearchPredicate predicate = new AnySearchPredicate(mondayFriendsOrChinese);
+        String expected = AnySearchPredicate.class.getCanonicalName() + "{alternatives=" + mondayFriendsOrChinese
+                + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,87 @@
+package tutortrack.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutortrack.testutil.Assert.assertThrows;
+import static tutortrack.testutil.TypicalPersons.ALICE;
+import static tutortrack.testutil.TypicalPersons.BENSON;
+import static tutortrack.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class CombinedSearchPredicateTest {
+
+    private final List<Predicate<Person>> mondayFriends = Arrays.asList(new LessonDayPredicate("Monday"),
+            new TagContainsKeywordsPredicate(Collections.singletonList("friends")));
+
+    @Test
+    public void constructor_nullCriterion_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CombinedSearchPredicate(null));
+        assertThrows(NullPointerException.class, () -> new CombinedSearchPredicate(Arrays.asList(
+                new LessonDayPredicate("Monday"), null)));
+    }
+
+    @Test
+    public void equals() {
+        CombinedSearchPredicate predicate = new CombinedSearchPredicate(mondayFriends);
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // same criteria -> returns true
+        CombinedSearchPredicate predicateCopy = new CombinedSearchPredicate(Arrays.asList(
+                new LessonDayPredicate("Monday"), new TagContainsKeywordsPredicate(Arrays.asList("friends"))));
+        assertTrue(predicate.equals(predicateCopy));
+        assertEquals(predicate.hashCode(), predicateCopy.hashCode());
+
+        // different types -> returns false
+        assertFalse(predicate.equals(1));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different criteria -> returns false
+        assertFalse(predicate.equals(new CombinedSearchPredicate(mondayFriends.subList(0, 1))));
+    }
+
+    @Test
+    public void test_matchesAllCriteria_returnsTrue() {
+        CombinedSearchPredicate predicate = new CombinedSearchPredicate(mondayFriends);
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+
+        // no criteria
+        assertTrue(new CombinedSearchPredicate(Collections.emptyList()).test(CARL));
+    }
+
+    @Test
+    public void test_failsAnyCriterion_returnsFalse() {
+        CombinedSearchPredicate predicate = new CombinedSearchPredicate(mondayFriends);
+
+        // no lesson on Monday
+        assertFalse(predicate.test(CARL));
+
+        // different subject level
+        assertFalse(new CombinedSearchPredicate(Arrays.asList(new LessonDayPredicate("Monday"),
+                new SubjectLevelMatchesPredicate("P1-Chinese"))).test(ALICE));
+    }
+
+    @Test
+    public void getCriteria_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+                new CombinedSearchPredicate(mondayFriends).getCriteria().clear());
+    }
+
+    @Test
+    public void toStringMethod() {
+        CombinedSearchPredicate predicate = new CombinedSearchPredicate(mondayFriends);
+        String expected = CombinedSearchPredicate.class.getCanonicalName() + "{criteria=" + mondayFriends + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -1,9 +1,13 @@
 package tutortrack.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutortrack.testutil.Assert.assertThrows;
 
+import java.time.DayOfWeek;
+
 import org.junit.jupiter.api.Test;
 
 public class DayTimeTest {
@@ -19,6 +23,32 @@ public class DayTimeTest {
         assertThrows(IllegalArgumentException.class, () -> new DayTime(invalidDayTime));
     }
 
+    @Test
+    public void of_validDayAndMinute_returnsDayTime() {
+        assertEquals(new DayTime("Monday 0930"), DayTime.of(DayOfWeek.MONDAY, 9 * 60 + 30));
+        assertEquals(new DayTime("Sunday 2359"), DayTime.of(DayOfWeek.SUNDAY, 23 * 60 + 59));
+        assertThrows(IllegalArgumentException.class, () -> DayTime.of(DayOfWeek.MONDAY, 24 * 60));
+        assertThrows(IllegalArgumentException.class, () -> DayTime.of(DayOfWeek.MONDAY, -1));
+    }
+
+    @Test
+    public void getDayOfWeekAndMinuteOfDay() {
+        DayTime dayTime = new DayTime("wEdnesday 1745");
+        assertEquals(DayOfWeek.WEDNESDAY, dayTime.getDayOfWeek());
+        assertEquals(17 * 60 + 45, dayTime.getMinuteOfDay());
+
+        DayTime withTab = new DayTime("SUNDAY\t0005");
+        assertEquals(DayOfWeek.SUNDAY, withTab.getDayOfWeek());
+        assertEquals(5, withTab.getMinuteOfDay());
+    }
+
+    @Test
+    public void weeklyOrder() {
+        assertTrue(DayTime.WEEKLY_ORDER.compare(new DayTime("Monday 2359"), new DayTime("Tuesday 0000")) < 0);
+        assertTrue(DayTime.WEEKLY_ORDER.compare(new DayTime("Sunday 0900"), new DayTime("Sunday 0859")) > 0);
+        assertEquals(0, DayTime.WEEKLY_ORDER.compare(new DayTime("monday 1200"), new DayTime("Monday 1200")));
+    }
+
     @Test
     public void isValidDayTime() {
         // null dayTime
@@ -38,6 +68,27 @@ public class DayTimeTest {
         assertTrue(DayTime.isValidDayTime("Friday 0830"));
     }
 
+    @Test
+    public void isValidDayTime_sameAsValidationRegex() {
+        String[] dayTimes = {"", "Monday", "Monday ", "Monday 1200", "monday\t2359", "MONDAY 2400", "Monday 1260",
+            "Monday  1200", "Mon 1200", "Sunday 0000", "Sunday 000", "Sunday 00000", "Frıday 1200",
+            "Friday\u00a01200"};
+        for (String dayTime : dayTimes) {
+            assertEquals(dayTime.matches(DayTime.VALIDATION_REGEX), DayTime.isValidDayTime(dayTime), dayTime);
+        }
+    }
+
+    @Test
+    public void isValidDayName() {
+        assertTrue(DayTime.isValidDayName("Wednesday"));
+        assertTrue(DayTime.isValidDayName("sUnDaY"));
+
+        assertFalse(DayTime.isValidDayName(""));
+        assertFalse(DayTime.isValidDayName("Wed"));
+        assertFalse(DayTime.isValidDayName("Wednesday 1200"));
+        assertFalse(DayTime.isValidDayName("Frıday"));
+    }
+
     @Test
     public void equals() {
         DayTime dayTime = new DayTime("Monday 1200");
@@ -57,4 +108,12 @@ public class DayTimeTest {
         // different values -> returns false
         assertFalse(dayTime.equals(new DayTime("Tuesday 1600")));
     }
+
+    @Test
+    public void of_equalValues_sameInstance() {
+        DayTime dayTime = DayTime.of("Monday 0930");
+        assertSame(dayTime, DayTime.of(new String("Monday 0930")));
+        assertSame(dayTime, DayTime.of(DayOfWeek.MONDAY, 9 * 60 + 30));
+        assertThrows(IllegalArgumentException.class, () -> DayTime.of("Monday 2460"));
+    }
 }
@@ -1,11 +1,15 @@
 package tutortrack.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutortrack.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import tutortrack.commons.util.ValidationResult;
+
 public class HourlyRateTest {
 
     @Test
@@ -32,6 +36,36 @@ public class HourlyRateTest {
         assertFalse(HourlyRate.hasIncorrectDecimalPlaces(null));
     }
 
+    @Test
+    public void ofCents() {
+        assertEquals(new HourlyRate("$50"), HourlyRate.ofCents(5000));
+        assertEquals(new HourlyRate("$12.05"), HourlyRate.ofCents(1205));
+        assertEquals(new HourlyRate("$0"), HourlyRate.ofCents(0));
+        assertThrows(IllegalArgumentException.class, () -> HourlyRate.ofCents(-1));
+    }
+
+    @Test
+    public void getCents() {
+        assertEquals(5000, new HourlyRate("$50").getCents());
+        assertEquals(5000, new HourlyRate("$50.00").getCents());
+        assertEquals(1205, new HourlyRate("$12.05").getCents());
+        assertEquals(Long.MAX_VALUE, new HourlyRate("$92233720368547758.07").getCents());
+    }
+
+    @Test
+    public void isValidHourlyRate_tooLargeForCents_returnsFalse() {
+        assertFalse(HourlyRate.isValidHourlyRate("$92233720368547758.08"));
+        assertFalse(HourlyRate.isValidHourlyRate("$92233720368547759"));
+        assertEquals(ValidationResult.invalid(HourlyRate.MESSAGE_CONSTRAINTS),
+                HourlyRate.validate("$99999999999999999999"));
+    }
+
+    @Test
+    public void amountOrder() {
+        assertTrue(HourlyRate.AMOUNT_ORDER.compare(new HourlyRate("$9.99"), new HourlyRate("$10")) < 0);
+        assertEquals(0, HourlyRate.AMOUNT_ORDER.compare(new HourlyRate("$10.00"), new HourlyRate("$10")));
+    }
+
     @Test
     public void isMissingDollar_detectsMissingOrNull() {
         assertTrue(HourlyRate.isMissingDollar(null));
@@ -57,6 +91,27 @@ public class HourlyRateTest {
         assertTrue(HourlyRate.isValidHourlyRate("$10.00"));
     }
 
+    @Test
+    public void isValidHourlyRate_sameAsValidationRegex() {
+        String[] hourlyRates = {"", "$", "$.", "$.50", "$5.", "$5", "$5.0", "$5.00", "$5.000", "50", "$5,00", "$5.0a"};
+        for (String hourlyRate : hourlyRates) {
+            assertEquals(hourlyRate.matches(HourlyRate.VALIDATION_REGEX), HourlyRate.isValidHourlyRate(hourlyRate),
+                    hourlyRate);
+        }
+    }
+
+    @Test
+    public void validate() {
+        assertThrows(NullPointerException.class, () -> HourlyRate.validate(null));
+
+        assertEquals(ValidationResult.invalid(HourlyRate.MESSAGE_MISSING_DOLLAR), HourlyRate.validate("50"));
+        assertEquals(ValidationResult.invalid(HourlyRate.MESSAGE_TOO_MANY_DECIMALS), HourlyRate.validate("$5.0"));
+        assertEquals(ValidationResult.invalid(HourlyRate.MESSAGE_TOO_MANY_DECIMALS), HourlyRate.validate("$5.000"));
+        assertEquals(ValidationResult.invalid(HourlyRate.MESSAGE_CONSTRAINTS), HourlyRate.validate("$5."));
+        assertEquals(ValidationResult.invalid(HourlyRate.MESSAGE_CONSTRAINTS), HourlyRate.validate("$abc"));
+        assertEquals(ValidationResult.VALID, HourlyRate.validate("$12.50"));
+    }
+
     @Test
     public void equals() {
         HourlyRate cost = new HourlyRate("$50");
@@ -76,4 +131,12 @@ public class HourlyRateTest {
         // different values -> returns false
         assertFalse(cost.equals(new HourlyRate("$100")));
     }
+
+    @Test
+    public void of_equalValues_sameInstance() {
+        HourlyRate hourlyRate = HourlyRate.of("$12.50");
+        assertSame(hourlyRate, HourlyRate.of(new String("$12.50")));
+        assertSame(hourlyRate, HourlyRate.ofCents(1250));
+        assertThrows(IllegalArgumentException.class, () -> HourlyRate.of("12.50"));
+    }
 }
@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.DayOfWeek;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import tutortrack.testutil.PersonBuilder;
@@ -129,5 +132,22 @@ public class LessonDayPredicateTest {
         // ensures that the comparator returns 0 if the person is the same
         assertEquals(0, predicate.getComparator().compare(alice, alice));
     }
-}
 
+    @Test
+    public void getDay() {
+        assertEquals(Optional.of(DayOfWeek.WEDNESDAY), new LessonDayPredicate("wEdNeSdAy").getDay());
+        assertEquals(Optional.empty(), new LessonDayPredicate("Wed").getDay());
+    }
+
+    @Test
+    public void test_notADay_doesNotMatch() {
+        Person alice = new PersonBuilder().withName("Alice").withDayTime("Monday 1200").build();
+        assertFalse(new LessonDayPredicate("Mon").test(alice));
+    }
+
+    @Test
+    public void test_whitespaceOtherThanSpace_matches() {
+        Person alice = new PersonBuilder().withName("Alice").withDayTime("Monday\t1200").build();
+        assertTrue(new LessonDayPredicate("monday").test(alice));
+    }
+}
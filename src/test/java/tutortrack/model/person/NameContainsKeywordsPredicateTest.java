@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -207,4 +208,23 @@ public class NameContainsKeywordsPredicateTest {
 
         assertTrue(predicate.getComparator().compare(johnDoe, maryJoe) < 0);
     }
+
+    @Test
+    public void comparator_sortsRoster_rankThenNameIgnoringCase() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("al", "TA"));
+
+        Person aliceTan = new PersonBuilder().withName("alice Tan").build();
+        Person alexOng = new PersonBuilder().withName("Alex Ong").build();
+        Person benTay = new PersonBuilder().withName("Ben Tay").build();
+        Person bettyAl = new PersonBuilder().withName("betty al").build();
+        Person chloeWong = new PersonBuilder().withName("Chloe Wong").build();
+        Person aliceTanUpper = new PersonBuilder().withName("ALICE TAN").build();
+        List<Person> roster = new ArrayList<>(Arrays.asList(chloeWong, benTay, aliceTan, bettyAl, alexOng,
+                aliceTanUpper));
+
+        roster.sort(predicate.getComparator());
+
+        assertEquals(Arrays.asList(alexOng, aliceTan, aliceTanUpper, benTay, bettyAl, chloeWong), roster);
+        assertEquals(0, predicate.getComparator().compare(aliceTan, aliceTanUpper));
+    }
 }
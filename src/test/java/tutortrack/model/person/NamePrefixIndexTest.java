@@ -0,0 +1,117 @@
+package tutortrack.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutortrack.testutil.Assert.assertThrows;
+import static tutortrack.testutil.TypicalPersons.ALICE;
+import static tutortrack.testutil.TypicalPersons.BENSON;
+import static tutortrack.testutil.TypicalPersons.DANIEL;
+import static tutortrack.testutil.TypicalPersons.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import tutortrack.testutil.PersonBuilder;
+
+public class NamePrefixIndexTest {
+
+    private final NamePrefixIndex index = new NamePrefixIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void findByPrefixes_nullPrefixes_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findByPrefixes(null));
+    }
+
+    @Test
+    public void findByPrefixes_emptyIndex_returnsEmptySet() {
+        assertTrue(index.findByPrefixes(Collections.singletonList("alice")).isEmpty());
+    }
+
+    @Test
+    public void findByPrefixes_matchesAnyWordIgnoringCase() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+        index.add(ELLE);
+
+        assertEquals(Set.of(ALICE), index.findByPrefixes(Collections.singletonList("ALI")));
+        assertEquals(Set.of(ALICE), index.findByPrefixes(Collections.singletonList("paul")));
+        assertEquals(Set.of(BENSON, DANIEL), index.findByPrefixes(Collections.singletonList("meier")));
+        assertEquals(Set.of(BENSON, DANIEL, ELLE), index.findByPrefixes(Collections.singletonList("Me")));
+        assertEquals(Set.of(ALICE, ELLE), index.findByPrefixes(Arrays.asList("alice", "elle")));
+        assertTrue(index.findByPrefixes(Collections.singletonList("lice")).isEmpty());
+        assertTrue(index.findByPrefixes(Collections.singletonList("meiers")).isEmpty());
+    }
+
+    @Test
+    public void findByPrefixes_turkishLocale_matchesPredicate() {
+        Person ivy = new PersonBuilder().withName("Ivy Lim").build();
+        Person irfan = new PersonBuilder().withName("Mohd IRFAN").build();
+        index.add(ivy);
+        index.add(irfan);
+
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            for (String prefix : Arrays.asList("ivy", "IVY", "irf", "Irfan")) {
+                List<String> prefixes = Collections.singletonList(prefix);
+                NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(prefixes);
+                Set<Person> expected = Stream.of(ivy, irfan).filter(predicate).collect(Collectors.toSet());
+                assertEquals(1, expected.size());
+                assertEquals(expected, index.findByPrefixes(prefixes));
+            }
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void remove_addedPerson_noLongerFound() {
+        index.add(BENSON);
+        index.add(DANIEL);
+
+        index.remove(BENSON);
+
+        assertEquals(Set.of(DANIEL), index.findByPrefixes(Collections.singletonList("meier")));
+        assertTrue(index.findByPrefixes(Collections.singletonList("benson")).isEmpty());
+    }
+
+    @Test
+    public void remove_repeatedWord_removesPerson() {
+        Person person = new PersonBuilder().withName("Tan Tan").build();
+        index.add(person);
+
+        index.remove(person);
+
+        assertTrue(index.findByPrefixes(Collections.singletonList("tan")).isEmpty());
+    }
+
+    @Test
+    public void remove_equalButDifferentPerson_keepsPerson() {
+        Person copy = new PersonBuilder(ALICE).build().withId(ALICE.getId());
+        index.add(ALICE);
+
+        index.remove(copy);
+
+        assertEquals(Set.of(ALICE), index.findByPrefixes(Collections.singletonList("alice")));
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        index.add(ALICE);
+        index.clear();
+        assertTrue(index.findByPrefixes(Collections.singletonList("alice")).isEmpty());
+    }
+}
@@ -1,11 +1,14 @@
 package tutortrack.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutortrack.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import tutortrack.commons.util.ValidationResult;
+
 public class NameTest {
 
     @Test
@@ -38,6 +41,26 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void isValidName_sameAsValidationRegex() {
+        String[] names = {"", " ", "a", "a b", " a", "a ", "a\tb", "a_b", "é", "Zoë Tan", "A1 b2 C3", "a  b"};
+        for (String name : names) {
+            assertEquals(name.matches(Name.VALIDATION_REGEX), Name.isValidName(name), name);
+        }
+    }
+
+    @Test
+    public void validate() {
+        assertThrows(NullPointerException.class, () -> Name.validate(null));
+
+        assertEquals(ValidationResult.invalid(Name.MESSAGE_BLANK), Name.validate(""));
+        assertEquals(ValidationResult.invalid(Name.MESSAGE_BLANK), Name.validate("  "));
+        assertEquals(ValidationResult.invalid(Name.MESSAGE_TOO_SHORT), Name.validate("a"));
+        assertEquals(ValidationResult.invalid(Name.MESSAGE_TOO_SHORT), Name.validate("*"));
+        assertEquals(ValidationResult.invalid(Name.MESSAGE_INVALID_CHARS), Name.validate("peter*"));
+        assertEquals(ValidationResult.VALID, Name.validate("peter the 2nd"));
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -3,6 +3,8 @@ package tutortrack.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutortrack.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static tutortrack.logic.commands.CommandTestUtil.VALID_CONTACT_BOB;
@@ -14,9 +16,12 @@ import static tutortrack.testutil.TypicalPersons.ALICE;
 import static tutortrack.testutil.TypicalPersons.BOB;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import tutortrack.model.lesson.LessonPlan;
 import tutortrack.model.lesson.LessonProgress;
 import tutortrack.testutil.PersonBuilder;
 
@@ -113,6 +118,27 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        assertEquals(ALICE.hashCode(), new PersonBuilder(ALICE).build().hashCode());
+
+        // hourly rate is not compared by equals, so it does not change the hash code either
+        Person otherRate = new PersonBuilder(ALICE).withHourlyRate("$999").build();
+        assertTrue(ALICE.equals(otherRate));
+        assertEquals(ALICE.hashCode(), otherRate.hashCode());
+    }
+
+    @Test
+    public void getIdentityKey() {
+        Person person = new PersonBuilder().withName("Zoe Tan").withSelfContact("91234567").build();
+        assertEquals("zoe tan|91234567", person.getIdentityKey());
+        assertSame(person.getIdentityKey(), person.getIdentityKey());
+
+        Person withoutSelfContact = new Person(ALICE.getName(), null, ALICE.getNokContact(), ALICE.getSubjectLevel(),
+                ALICE.getDayTime(), ALICE.getHourlyRate(), ALICE.getAddress(), ALICE.getTags());
+        assertNull(withoutSelfContact.getIdentityKey());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName()
@@ -147,5 +173,41 @@ public class PersonTest {
         // Different instances
         assertNotSame(person, updatedPerson);
     }
-}
 
+    @Test
+    public void addLessonProgress_outOfOrderAndSameDate_keptByDate() {
+        Person person = new PersonBuilder(ALICE).withLessonProgress().build();
+        LessonProgress march = new LessonProgress(LocalDate.of(2024, 3, 1), "Fractions");
+        LessonProgress january = new LessonProgress(LocalDate.of(2024, 1, 1), "Decimals");
+        LessonProgress marchRedone = new LessonProgress(LocalDate.of(2024, 3, 1), "Fractions again");
+
+        person.addLessonProgress(march);
+        person.addLessonProgress(january);
+        person.addLessonProgress(marchRedone);
+
+        assertEquals(Arrays.asList(january, marchRedone), person.getLessonProgressList());
+        assertThrows(UnsupportedOperationException.class, () -> person.getLessonProgressList().clear());
+        assertTrue(person.removeLessonProgressByDate(LocalDate.of(2024, 1, 1)));
+        assertFalse(person.removeLessonProgressByDate(LocalDate.of(2024, 1, 1)));
+        assertEquals(Arrays.asList(marchRedone), person.getLessonProgressList());
+    }
+
+    @Test
+    public void getLessonPlansBetween_returnsPlansInRangeByDate() {
+        Person person = new PersonBuilder(ALICE).build();
+        LessonPlan first = new LessonPlan(LocalDate.of(2024, 1, 8), "Algebra");
+        LessonPlan second = new LessonPlan(LocalDate.of(2024, 1, 15), "Geometry");
+        LessonPlan third = new LessonPlan(LocalDate.of(2024, 1, 22), "Revision");
+        person.addLessonPlan(third);
+        person.addLessonPlan(first);
+        person.addLessonPlan(second);
+
+        assertEquals(Arrays.asList(first, second),
+                new ArrayList<>(person.getLessonPlansBetween(LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 21))));
+        assertTrue(person.getLessonPlansBetween(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1)).isEmpty());
+        assertEquals(Arrays.asList(second, third), new ArrayList<>(
+                person.getLessonPlansBetween(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 22))));
+        assertThrows(IllegalArgumentException.class, () ->
+                person.getLessonProgressBetween(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1)));
+    }
+}
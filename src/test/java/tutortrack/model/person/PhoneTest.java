@@ -1,11 +1,14 @@
 package tutortrack.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutortrack.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import tutortrack.commons.util.ValidationResult;
+
 public class PhoneTest {
 
     @Test
@@ -38,6 +41,24 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
     }
 
+    @Test
+    public void isValidPhone_sameAsValidationRegex() {
+        String[] phones = {"", "1", "12", "123", "1234 5678", "12a", "+6512", "١٢٣", "91234567"};
+        for (String phone : phones) {
+            assertEquals(phone.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(phone), phone);
+        }
+    }
+
+    @Test
+    public void validate() {
+        assertThrows(NullPointerException.class, () -> Phone.validate(null));
+
+        assertEquals(ValidationResult.invalid(Phone.MESSAGE_BLANK), Phone.validate(" "));
+        assertEquals(ValidationResult.invalid(Phone.MESSAGE_INVALID_CHARS), Phone.validate("1a"));
+        assertEquals(ValidationResult.invalid(Phone.MESSAGE_TOO_SHORT), Phone.validate("12"));
+        assertEquals(ValidationResult.VALID, Phone.validate("911"));
+    }
+
     @Test
     public void equals() {
         Phone phone = new Phone("999");
@@ -0,0 +1,58 @@
+package tutortrack.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutortrack.testutil.Assert.assertThrows;
+import static tutortrack.testutil.TypicalPersons.ALICE;
+import static tutortrack.testutil.TypicalPersons.BENSON;
+import static tutortrack.testutil.TypicalPersons.GEORGE;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class SubjectLevelIndexTest {
+
+    private final SubjectLevelIndex index = new SubjectLevelIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void findBySubjectLevel_nullSubjectLevel_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findBySubjectLevel(null));
+    }
+
+    @Test
+    public void findBySubjectLevel_matchesWholeSubjectLevelIgnoringCase() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(GEORGE);
+
+        assertEquals(Set.of(ALICE), index.findBySubjectLevel("p4-MATH"));
+        assertEquals(Set.of(GEORGE), index.findBySubjectLevel(" P1-Math "));
+        assertTrue(index.findBySubjectLevel("Math").isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> index.findBySubjectLevel("P4-Math").clear());
+    }
+
+    @Test
+    public void remove_addedPerson_noLongerFound() {
+        index.add(ALICE);
+        index.add(BENSON);
+
+        index.remove(BENSON);
+        index.remove(GEORGE); // never added
+
+        assertEquals(Set.of(ALICE), index.findBySubjectLevel("P4-Math"));
+        assertTrue(index.findBySubjectLevel("P5-Math").isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        index.add(ALICE);
+        index.clear();
+        assertTrue(index.findBySubjectLevel("P4-Math").isEmpty());
+    }
+}
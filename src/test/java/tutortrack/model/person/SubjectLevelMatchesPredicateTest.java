@@ -1,5 +1,6 @@
 package tutortrack.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -42,6 +43,7 @@ public class SubjectLevelMatchesPredicateTest {
 
         // equals is case-insensitive
         assertTrue(p1.equals(p2));
+        assertEquals(p1.hashCode(), p2.hashCode());
 
         // different subject
         assertFalse(p1.equals(p3));
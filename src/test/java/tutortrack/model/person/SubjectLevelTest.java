@@ -1,11 +1,15 @@
 package tutortrack.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutortrack.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import tutortrack.commons.util.ValidationResult;
+
 public class SubjectLevelTest {
 
     @Test
@@ -38,6 +42,25 @@ public class SubjectLevelTest {
         assertTrue(SubjectLevel.isValidSubjectLevel("J1-Physics"));
     }
 
+    @Test
+    public void isValidSubjectLevel_sameAsValidationRegex() {
+        String[] subjectLevels = {"", "-", "P4-", "-Math", "P4-Math", "P4--Math", "P4-Math-2", "P4 -Math", "é-Math"};
+        for (String subjectLevel : subjectLevels) {
+            assertEquals(subjectLevel.matches(SubjectLevel.VALIDATION_REGEX),
+                    SubjectLevel.isValidSubjectLevel(subjectLevel), subjectLevel);
+        }
+    }
+
+    @Test
+    public void validate() {
+        assertThrows(NullPointerException.class, () -> SubjectLevel.validate(null));
+
+        assertEquals(ValidationResult.invalid(SubjectLevel.MESSAGE_BLANK), SubjectLevel.validate(""));
+        assertEquals(ValidationResult.invalid(SubjectLevel.MESSAGE_INVALID_FORMAT), SubjectLevel.validate("P4Math"));
+        assertEquals(ValidationResult.invalid(SubjectLevel.MESSAGE_INVALID_CHARS), SubjectLevel.validate("P4-Ma th"));
+        assertEquals(ValidationResult.VALID, SubjectLevel.validate("Sec2-English"));
+    }
+
     @Test
     public void equals() {
         SubjectLevel subjectLevel = new SubjectLevel("P4-Math");
@@ -57,4 +80,12 @@ public class SubjectLevelTest {
         // different values -> returns false
         assertFalse(subjectLevel.equals(new SubjectLevel("P5-Science")));
     }
+
+    @Test
+    public void of_equalValues_sameInstance() {
+        SubjectLevel subjectLevel = SubjectLevel.of("P6-Math");
+        assertSame(subjectLevel, SubjectLevel.of(new String("P6-Math")));
+        assertEquals(new SubjectLevel("P6-Math"), subjectLevel);
+        assertThrows(IllegalArgumentException.class, () -> SubjectLevel.of("P6 Math"));
+    }
 }
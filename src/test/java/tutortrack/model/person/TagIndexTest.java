@@ -0,0 +1,69 @@
+package tutortrack.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutortrack.testutil.Assert.assertThrows;
+import static tutortrack.testutil.TypicalPersons.ALICE;
+import static tutortrack.testutil.TypicalPersons.BENSON;
+import static tutortrack.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagIndexTest {
+
+    private final TagIndex index = new TagIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void findByTagNames_nullTagNames_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findByTagNames(null));
+    }
+
+    @Test
+    public void findByTagNames_matchesWholeTagIgnoringCase() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+
+        assertEquals(Set.of(ALICE, BENSON), index.findByTagNames(Collections.singletonList("FRIENDS")));
+        assertEquals(Set.of(BENSON), index.findByTagNames(Collections.singletonList("owesmoney")));
+        assertEquals(Set.of(ALICE, BENSON), index.findByTagNames(Arrays.asList("owesMoney", "friends")));
+        assertTrue(index.findByTagNames(Collections.singletonList("friend")).isEmpty());
+        assertTrue(index.findByTagNames(Collections.singletonList("money")).isEmpty());
+    }
+
+    @Test
+    public void findByTagNames_sameAsEqualsIgnoreCase() {
+        index.add(ALICE);
+        for (String keyword : Arrays.asList("FRİENDS", "friendſ", "frıends", "Friends")) {
+            assertEquals("friends".equalsIgnoreCase(keyword),
+                    index.findByTagNames(Collections.singletonList(keyword)).contains(ALICE), keyword);
+        }
+    }
+
+    @Test
+    public void remove_addedPerson_noLongerFound() {
+        index.add(ALICE);
+        index.add(BENSON);
+
+        index.remove(BENSON);
+
+        assertEquals(Set.of(ALICE), index.findByTagNames(Collections.singletonList("friends")));
+        assertTrue(index.findByTagNames(Collections.singletonList("owesMoney")).isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        index.add(ALICE);
+        index.clear();
+        assertTrue(index.findByTagNames(Collections.singletonList("friends")).isEmpty());
+    }
+}
@@ -0,0 +1,70 @@
+package tutortrack.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutortrack.testutil.Assert.assertThrows;
+import static tutortrack.testutil.TypicalPersons.ALICE;
+import static tutortrack.testutil.TypicalPersons.BENSON;
+import static tutortrack.testutil.TypicalPersons.CARL;
+import static tutortrack.testutil.TypicalPersons.HOON;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import tutortrack.testutil.PersonBuilder;
+
+public class TimetableIndexTest {
+
+    private final TimetableIndex index = new TimetableIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getLessonsOn_nullDay_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getLessonsOn(null));
+    }
+
+    @Test
+    public void getLessonsOn_emptyDay_returnsNoLessons() {
+        index.add(ALICE);
+        assertTrue(index.getLessonsOn(DayOfWeek.WEDNESDAY).isEmpty());
+    }
+
+    @Test
+    public void getLessonsOn_lessonsOnDay_groupedInTimeOrder() {
+        Person aliceAtNoon = new PersonBuilder().withName("Alicia").withDayTime("monday 1200").build();
+        index.add(BENSON); // Monday 1300
+        index.add(ALICE); // Monday 1200
+        index.add(HOON); // Monday 1000
+        index.add(CARL); // Tuesday 1200
+        index.add(aliceAtNoon);
+
+        assertEquals(List.of(Set.of(HOON), Set.of(ALICE, aliceAtNoon), Set.of(BENSON)),
+                new ArrayList<>(index.getLessonsOn(DayOfWeek.MONDAY)));
+        assertEquals(List.of(Set.of(CARL)), new ArrayList<>(index.getLessonsOn(DayOfWeek.TUESDAY)));
+    }
+
+    @Test
+    public void remove_addedPerson_noLongerListed() {
+        index.add(ALICE);
+        index.add(BENSON);
+
+        index.remove(ALICE);
+
+        assertEquals(List.of(Set.of(BENSON)), new ArrayList<>(index.getLessonsOn(DayOfWeek.MONDAY)));
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        index.add(ALICE);
+        index.clear();
+        assertTrue(index.getLessonsOn(DayOfWeek.MONDAY).isEmpty());
+    }
+}
@@ -7,8 +7,12 @@ import static tutortrack.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static tutortrack.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static tutortrack.testutil.Assert.assertThrows;
 import static tutortrack.testutil.TypicalPersons.ALICE;
+import static tutortrack.testutil.TypicalPersons.BENSON;
 import static tutortrack.testutil.TypicalPersons.BOB;
+import static tutortrack.testutil.TypicalPersons.CARL;
+import static tutortrack.testutil.TypicalPersons.DANIEL;
 
+import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -47,6 +51,29 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameDifferentCaseAndSpacing_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase() + " ")
+                .build();
+        assertTrue(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedWithDifferentIdentity_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -58,6 +85,33 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_uniquePersons_addedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(CARL, BENSON));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(CARL);
+        expectedUniquePersonList.add(BENSON);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.contains(BENSON));
+        assertEquals(Arrays.asList(BENSON), uniquePersonList.findByNamePrefixes(Arrays.asList("Benson")));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonExceptionAndAddsNone() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithOtherAddress = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.addAll(Arrays.asList(BOB, CARL, BOB)));
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.addAll(Arrays.asList(aliceWithOtherAddress)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -109,6 +163,28 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_targetIsEqualCopy_success() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(new PersonBuilder(ALICE).build(), BOB);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void setPerson_afterEarlierPersonRemoved_replacesCorrectPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, DANIEL);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        expectedUniquePersonList.add(DANIEL);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -162,6 +238,106 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase())
+                .withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_list_replacesOwnIdentities() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void findByNamePrefixes_afterChanges_returnsMatchesInListOrder() {
+        uniquePersonList.setPersons(Arrays.asList(DANIEL, ALICE, CARL));
+        uniquePersonList.add(BOB);
+        Person editedDaniel = new PersonBuilder(DANIEL).withName("Daniel Bauer").build().withId(DANIEL.getId());
+        uniquePersonList.setPerson(DANIEL, editedDaniel);
+        uniquePersonList.remove(ALICE);
+
+        assertEquals(Arrays.asList(editedDaniel, BOB), uniquePersonList.findByNamePrefixes(Arrays.asList("b", "x")));
+        assertEquals(Collections.singletonList(CARL), uniquePersonList.findByNamePrefixes(Arrays.asList("kurz")));
+        assertTrue(uniquePersonList.findByNamePrefixes(Arrays.asList("alice", "meier")).isEmpty());
+    }
+
+    @Test
+    public void findByTagNames_afterChanges_returnsMatchesInListOrder() {
+        uniquePersonList.setPersons(Arrays.asList(DANIEL, ALICE, CARL));
+        uniquePersonList.add(BOB);
+        Person editedCarl = new PersonBuilder(CARL).withTags("Friends").build().withId(CARL.getId());
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(ALICE);
+
+        assertEquals(Arrays.asList(DANIEL, editedCarl), uniquePersonList.findByTagNames(Arrays.asList("friends")));
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.findByTagNames(Arrays.asList(VALID_TAG_HUSBAND)));
+    }
+
+    @Test
+    public void findByLessonDay_afterChanges_returnsTimetableOrder() {
+        Person amy = new PersonBuilder().withName("amy").withDayTime("Monday 1200").build();
+        Person bea = new PersonBuilder().withName("Bea").withDayTime("Monday 0900").build();
+        uniquePersonList.setPersons(Arrays.asList(DANIEL, ALICE, CARL));
+        uniquePersonList.add(bea);
+        uniquePersonList.add(amy);
+        Person editedCarl = new PersonBuilder(CARL).withDayTime("monday 1000").build().withId(CARL.getId());
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(DANIEL);
+
+        // ALICE (Alice Pauline) and amy are both at noon, and are ordered by name ignoring case
+        assertEquals(Arrays.asList(bea, editedCarl, ALICE, amy), uniquePersonList.findByLessonDay(DayOfWeek.MONDAY));
+        assertTrue(uniquePersonList.findByLessonDay(DayOfWeek.FRIDAY).isEmpty());
+    }
+
+    @Test
+    public void findBySubjectLevel_afterChanges_returnsMatchesInListOrder() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, CARL, DANIEL));
+        Person editedDaniel = new PersonBuilder(DANIEL).withSubjectLevel("p4-math").build().withId(DANIEL.getId());
+        uniquePersonList.setPerson(DANIEL, editedDaniel);
+        uniquePersonList.remove(CARL);
+
+        assertEquals(Arrays.asList(ALICE, editedDaniel), uniquePersonList.findBySubjectLevel("P4-MATH"));
+        assertTrue(uniquePersonList.findBySubjectLevel("P1-Chinese").isEmpty());
+    }
+
+    @Test
+    public void findByAll_indexedAndOtherCriteria_returnsMatchesInListOrder() {
+        uniquePersonList.setPersons(Arrays.asList(DANIEL, ALICE, CARL));
+        uniquePersonList.add(BENSON);
+
+        // BENSON and ALICE both have Monday lessons and the friends tag
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.findByAll(Arrays.asList(
+                new TagContainsKeywordsPredicate(Arrays.asList("friends")), new LessonDayPredicate("Monday"))));
+        assertEquals(Arrays.asList(BENSON), uniquePersonList.findByAll(Arrays.asList(
+                new LessonDayPredicate("Monday"), person -> person.getTags().size() > 1)));
+        assertTrue(uniquePersonList.findByAll(Arrays.asList(
+                new SubjectLevelMatchesPredicate("P1-Chinese"), new LessonDayPredicate("Monday"))).isEmpty());
+
+        // no indexed criteria -> every person is tested
+        assertEquals(Arrays.asList(DANIEL, ALICE, BENSON), uniquePersonList.findByAll(Arrays.asList(
+                person -> !person.getTags().isEmpty())));
+    }
+
+    @Test
+    public void findByAny_alternatives_returnsDistinctMatchesInListOrder() {
+        uniquePersonList.setPersons(Arrays.asList(DANIEL, ALICE, CARL, BENSON));
+
+        // ALICE and BENSON match both alternatives, but are returned once
+        assertEquals(Arrays.asList(ALICE, CARL, BENSON), uniquePersonList.findByAny(Arrays.asList(
+                Arrays.asList(new LessonDayPredicate("Monday")),
+                Arrays.asList(new SubjectLevelMatchesPredicate("P1-Chinese")),
+                Arrays.asList(new TagContainsKeywordsPredicate(Arrays.asList("owesMoney")),
+                        new LessonDayPredicate("Monday")))));
+        assertTrue(uniquePersonList.findByAny(Arrays.asList(
+                Arrays.asList(new LessonDayPredicate("Sunday")))).isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
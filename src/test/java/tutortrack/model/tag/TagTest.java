@@ -1,5 +1,7 @@
 package tutortrack.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static tutortrack.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -23,4 +25,11 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void of_equalNames_sameInstance() {
+        Tag tag = Tag.of("exams");
+        assertSame(tag, Tag.of(new String("exams")));
+        assertNotSame(tag, Tag.of("Exams"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("not a tag"));
+    }
 }
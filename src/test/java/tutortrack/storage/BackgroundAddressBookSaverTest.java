@@ -0,0 +1,168 @@
+package tutortrack.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutortrack.testutil.Assert.assertThrows;
+import static tutortrack.testutil.TypicalPersons.ALICE;
+import static tutortrack.testutil.TypicalPersons.HOON;
+import static tutortrack.testutil.TypicalPersons.IDA;
+import static tutortrack.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutortrack.model.AddressBook;
+import tutortrack.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BackgroundAddressBookSaver(null));
+    }
+
+    @Test
+    public void save_thenFlush_writesAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.save(addressBook);
+        saver.flush();
+
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        saver.shutdown();
+    }
+
+    @Test
+    public void save_addressBookChangedAfterSave_writesSnapshot() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        List<AddressBook> written = new ArrayList<>();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(
+                new RecordingStorage(testFolder, written, writeStarted, releaseWrite));
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(addressBook);
+
+        saver.save(addressBook);
+        writeStarted.await();
+        addressBook.addPerson(HOON);
+        releaseWrite.countDown();
+        saver.shutdown();
+
+        assertEquals(expected, written.get(0));
+    }
+
+    @Test
+    public void save_burstWhileWriting_coalescesIntoOneWrite() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        List<AddressBook> written = new ArrayList<>();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(
+                new RecordingStorage(testFolder, written, writeStarted, releaseWrite));
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.save(addressBook);
+        writeStarted.await();
+        addressBook.addPerson(HOON);
+        saver.save(addressBook);
+        addressBook.addPerson(IDA);
+        saver.save(addressBook);
+        addressBook.removePerson(ALICE);
+        saver.save(addressBook);
+        releaseWrite.countDown();
+        saver.flush();
+
+        assertEquals(2, written.size());
+        assertEquals(addressBook, written.get(1));
+        saver.shutdown();
+    }
+
+    @Test
+    public void save_storageThrowsIoException_reportsError() {
+        IOException exception = new IOException("dummy IO exception");
+        List<IOException> reported = new ArrayList<>();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(
+                new JsonAddressBookStorage(testFolder.resolve("addressbook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw exception;
+                    }
+                });
+        saver.setErrorHandler(reported::add);
+
+        saver.save(getTypicalAddressBook());
+        saver.flush();
+
+        assertTrue(saver.isLastSaveFailed());
+        assertEquals(1, reported.size());
+        assertEquals(exception, reported.get(0));
+        saver.shutdown();
+    }
+
+    @Test
+    public void save_afterFailedSaveSucceeds_clearsFailure() throws Exception {
+        List<IOException> reported = new ArrayList<>();
+        boolean[] shouldFail = {true};
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(
+                new JsonAddressBookStorage(testFolder.resolve("addressbook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (shouldFail[0]) {
+                            throw new IOException("dummy IO exception");
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                });
+        saver.setErrorHandler(reported::add);
+
+        saver.save(getTypicalAddressBook());
+        saver.flush();
+        shouldFail[0] = false;
+        saver.save(getTypicalAddressBook());
+        saver.flush();
+
+        assertFalse(saver.isLastSaveFailed());
+        assertEquals(1, reported.size());
+        saver.shutdown();
+    }
+
+    /**
+     * A storage that records every address book written to it, and holds up the first write until released.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        private final List<AddressBook> written;
+        private final CountDownLatch writeStarted;
+        private final CountDownLatch releaseWrite;
+
+        RecordingStorage(Path folder, List<AddressBook> written, CountDownLatch writeStarted,
+                CountDownLatch releaseWrite) {
+            super(folder.resolve("addressbook.json"));
+            this.written = written;
+            this.writeStarted = writeStarted;
+            this.releaseWrite = releaseWrite;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                releaseWrite.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            written.add(new AddressBook(addressBook));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package tutortrack.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutortrack.testutil.Assert.assertThrows;
+import static tutortrack.testutil.TypicalPersons.ALICE;
+import static tutortrack.testutil.TypicalPersons.HOON;
+import static tutortrack.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutortrack.commons.exceptions.DataLoadingException;
+import tutortrack.model.AddressBook;
+import tutortrack.model.ReadOnlyAddressBook;
+import tutortrack.model.person.Person;
+import tutortrack.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path JSON_TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(ALICE.getId(), readBack.getPersonList().get(0).getId());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_valuesAndLessons_preserved() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Person person = new PersonBuilder().withName("Zoe Tan").withSelfContact("91234567")
+                .withDayTime("Sunday 0005").withHourlyRate("$12.50").withAddress("Blk 1, #01-01 Ünïcödé St")
+                .withTags("math", "physics")
+                .withLessonPlan("1999-12-31|Plan with | pipes and ünicode")
+                .withLessonProgress("2025-01-01|Progress").build();
+        Person withoutNokContact = new Person(ALICE.getId(), ALICE.getName(), ALICE.getSelfContact(), null,
+                ALICE.getSubjectLevel(), ALICE.getDayTime(), ALICE.getHourlyRate(), ALICE.getAddress(),
+                ALICE.getTags());
+        AddressBook original = new AddressBook();
+        original.addPerson(person);
+        original.addPerson(withoutNokContact);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        List<Person> persons = storage.readAddressBook().get().getPersonList();
+        Person readBack = persons.get(0);
+
+        assertEquals(person, readBack);
+        assertNull(persons.get(1).getNokContact());
+        assertEquals(person.getHourlyRate(), readBack.getHourlyRate());
+        assertEquals(person.getLessonPlanList(), readBack.getLessonPlanList());
+        assertEquals(person.getLessonProgressList(), readBack.getLessonProgressList());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readsJson() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidJsonFile_throwsDataLoadingException() {
+        Path filePath = JSON_TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[7] = (byte) (BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void isBinaryFile_shortOrMissingFile_returnsFalse() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+
+        Files.write(filePath, new byte[] {'T', 'T'});
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+    }
+
+    @Test
+    public void journal_withBinarySnapshot_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(new BinaryAddressBookStorage(filePath),
+                JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(new BinaryAddressBookStorage(filePath),
+                JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+    }
+}
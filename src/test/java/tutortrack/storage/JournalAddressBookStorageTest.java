@@ -0,0 +1,292 @@
+package tutortrack.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutortrack.testutil.Assert.assertThrows;
+import static tutortrack.testutil.TypicalPersons.ALICE;
+import static tutortrack.testutil.TypicalPersons.BENSON;
+import static tutortrack.testutil.TypicalPersons.HOON;
+import static tutortrack.testutil.TypicalPersons.IDA;
+import static tutortrack.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutortrack.commons.exceptions.DataLoadingException;
+import tutortrack.model.AddressBook;
+import tutortrack.model.ReadOnlyAddressBook;
+import tutortrack.model.person.Person;
+import tutortrack.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    // A data file saved before persons had ids
+    private static final Path SNAPSHOT_WITHOUT_IDS_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath)
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotWithoutJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_laterSaves_appendOnlyChangedPersons() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        Person editedBenson = new PersonBuilder(BENSON).withAddress("Edited address").build()
+                .withId(BENSON.getId());
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original); // nothing changed
+
+        assertEquals(snapshot, new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsToExistingJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        readBack.addPerson(IDA);
+        reopened.saveAddressBook(readBack);
+
+        assertEquals(2, Files.readAllLines(reopened.getJournalFilePath()).size());
+        assertEquals(readBack, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalOverThreshold_compacts() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personsReordered_compacts() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.setPersons(Arrays.asList(ALICE, BENSON));
+        storage.saveAddressBook(original);
+
+        original.setPersons(Arrays.asList(BENSON, ALICE));
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesPlainJson() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path otherFilePath = testFolder.resolve("export.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void compactAddressBook_withJournal_removesJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        storage.compactAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignoresEntry() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(storage.getJournalFilePath(), "{\"operation\":\"put\",\"id\":\"".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // The next save rewrites the snapshot instead of appending after the incomplete entry
+        readBack.addPerson(IDA);
+        reopened.saveAddressBook(readBack);
+        assertFalse(Files.exists(reopened.getJournalFilePath()));
+        assertEquals(readBack, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotWithoutIds_firstSaveCompactsAndJournalReplays() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.copy(SNAPSHOT_WITHOUT_IDS_FILE, filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        // The ids made up for the snapshot are written to it instead of being used in journal entries
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        Person first = addressBook.getPersonList().get(0);
+        Person second = addressBook.getPersonList().get(1);
+        addressBook.removePerson(first);
+        addressBook.setPerson(second, new PersonBuilder(second).withAddress("Edited address").build()
+                .withId(second.getId()));
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        // Read without compacting first, as after an unclean exit
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(readBack));
+    }
+
+    @Test
+    public void hasIncrementalChanges() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertFalse(storage.hasIncrementalChanges());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(storage.hasIncrementalChanges());
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath);
+        reopened.readAddressBook();
+        assertTrue(reopened.hasIncrementalChanges());
+
+        reopened.compactAddressBook(original);
+        assertFalse(reopened.hasIncrementalChanges());
+    }
+
+    @Test
+    public void readAddressBook_invalidEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.write(storage.getJournalFilePath(), Arrays.asList("not json", "{\"operation\":\"remove\"}"),
+                StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unknownOperation_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.write(storage.getJournalFilePath(), Arrays.asList("{\"operation\":\"move\",\"id\":\"x\"}", ""),
+                StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_compactionInterruptedAfterJournalSetAside_usesNewSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // Simulate a compaction that stopped before the new snapshot replaced the data file
+        AddressBook compacted = new AddressBook(original);
+        compacted.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(compacted, testFolder.resolve("addressbook.json.new"));
+        Files.move(storage.getJournalFilePath(), testFolder.resolve("addressbook.json.journal.compacting"));
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(compacted, new AddressBook(readBack));
+        assertFalse(Files.exists(testFolder.resolve("addressbook.json.new")));
+        assertFalse(Files.exists(testFolder.resolve("addressbook.json.journal.compacting")));
+    }
+
+    @Test
+    public void readAddressBook_compactionInterruptedBeforeJournalSetAside_replaysJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // A leftover new snapshot without a journal set aside may be incomplete
+        Files.write(testFolder.resolve("addressbook.json.new"), Arrays.asList("{\"persons\": ["),
+                StandardCharsets.UTF_8);
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertFalse(Files.exists(testFolder.resolve("addressbook.json.new")));
+    }
+}
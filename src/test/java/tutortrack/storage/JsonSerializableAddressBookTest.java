@@ -1,16 +1,24 @@
 package tutortrack.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutortrack.testutil.Assert.assertThrows;
+import static tutortrack.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import tutortrack.commons.exceptions.IllegalValueException;
 import tutortrack.commons.util.JsonUtil;
 import tutortrack.model.AddressBook;
+import tutortrack.model.person.Name;
+import tutortrack.model.person.Person;
+import tutortrack.testutil.PersonBuilder;
 import tutortrack.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -29,6 +37,20 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_generatedIds_reported() throws Exception {
+        JsonSerializableAddressBook withoutIds = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertTrue(((LoadedAddressBook) withoutIds.toModelType()).hasGeneratedIds());
+
+        JsonSerializableAddressBook withIds = new JsonSerializableAddressBook(TypicalPersons.getTypicalAddressBook());
+        assertFalse(((LoadedAddressBook) withIds.toModelType()).hasGeneratedIds());
+
+        Person copy = new PersonBuilder(BENSON).withName("Benson Copy").build().withId(BENSON.getId());
+        List<JsonAdaptedPerson> sharedId = List.of(new JsonAdaptedPerson(BENSON), new JsonAdaptedPerson(copy));
+        assertTrue(((LoadedAddressBook) new JsonSerializableAddressBook(sharedId).toModelType()).hasGeneratedIds());
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
@@ -44,4 +66,43 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyPersons_preservesOrder() throws Exception {
+        List<Person> expected = new ArrayList<>();
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableAddressBook.MIN_PARALLEL_CONVERSION_SIZE * 4; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            expected.add(person);
+            persons.add(new JsonAdaptedPerson(person));
+        }
+
+        AddressBook addressBook = new JsonSerializableAddressBook(persons).toModelType();
+
+        assertEquals(expected, addressBook.getPersonList());
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithInvalidAndDuplicate_reportsFirstInOrder() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableAddressBook.MIN_PARALLEL_CONVERSION_SIZE * 4; i++) {
+            persons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Person " + i).build()));
+        }
+        JsonAdaptedPerson invalidPerson = new JsonAdaptedPerson("R@chel", BENSON.getSelfContact().value, null,
+                BENSON.getSubjectLevel().value, BENSON.getDayTime().value, BENSON.getHourlyRate().value,
+                BENSON.getAddress().value, new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        JsonAdaptedPerson duplicatePerson = persons.get(0);
+
+        List<JsonAdaptedPerson> invalidFirst = new ArrayList<>(persons);
+        invalidFirst.add(100, invalidPerson);
+        invalidFirst.add(duplicatePerson);
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                new JsonSerializableAddressBook(invalidFirst).toModelType());
+
+        List<JsonAdaptedPerson> duplicateFirst = new ArrayList<>(persons);
+        duplicateFirst.add(100, duplicatePerson);
+        duplicateFirst.add(invalidPerson);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonSerializableAddressBook(duplicateFirst).toModelType());
+    }
+
 }
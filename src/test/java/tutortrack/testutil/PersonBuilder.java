@@ -198,7 +198,7 @@ public class PersonBuilder {
      */
     public Person build() {
         Person person = new Person(name, selfContact, nokContact, subjectLevel, dayTime, hourlyRate, address, tags);
-        person.getLessonProgressList().addAll(lessonProgressList);
+        lessonProgressList.forEach(person::addLessonProgress);
         return person;
     }
 }